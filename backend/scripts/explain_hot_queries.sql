@@ -0,0 +1,26 @@
+-- Query-plan check for the hot read paths covered by migration V2 (and the baseline indexes).
+-- Run before and after migrating and compare the chosen key, e.g.
+--   mysql competition_platform < scripts/explain_hot_queries.sql
+-- On MySQL look at `key` / `rows` / `Extra`; on H2 (h2 profile) look for "/* PUBLIC.idx_... */" in the plan.
+-- Ids and dates are samples; use values from the target database for realistic row estimates.
+
+-- UserSkillRepository.findByUserIdAndSkillId -> idx_user_skills_user_skill
+EXPLAIN SELECT * FROM user_skills WHERE user_id = 42 AND skill_id = 7;
+
+-- UserSkillRepository.findByUserIdAndSkillIdIn -> idx_user_skills_user_skill
+EXPLAIN SELECT * FROM user_skills WHERE user_id = 42 AND skill_id IN (1, 2, 3, 7);
+
+-- UserBehaviorRepository.findByTargetType -> idx_user_behaviors_target_user
+EXPLAIN SELECT * FROM user_behaviors WHERE target_type = 'TEAM';
+
+-- UserBehaviorRepository.findByUserIdAndTargetType -> idx_user_behaviors_target_user
+EXPLAIN SELECT * FROM user_behaviors WHERE user_id = 42 AND target_type = 'COMPETITION';
+
+-- Open-registration listing -> idx_competitions_status_deadline (baseline)
+EXPLAIN SELECT * FROM competitions WHERE status = 'UPCOMING' AND registration_deadline >= '2026-01-01 00:00:00';
+
+-- Pending applications of a team -> idx_applications_team_status (baseline)
+EXPLAIN SELECT * FROM applications WHERE team_id = 42 AND status = 'PENDING';
+
+-- Active members of a team -> idx_team_members_team_left_at (baseline)
+EXPLAIN SELECT * FROM team_members WHERE team_id = 42 AND left_at IS NULL;
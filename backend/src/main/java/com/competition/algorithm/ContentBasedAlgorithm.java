@@ -5,6 +5,7 @@ import com.competition.repository.CompetitionSkillRepository;
 import com.competition.repository.TeamMemberRepository;
 import com.competition.repository.UserRepository;
 import com.competition.repository.UserSkillRepository;
+import com.competition.repository.projection.CompetitionSkillRef;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import java.util.*;
@@ -14,6 +15,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ContentBasedAlgorithm {
 
+    // Competition ids per IN list when loading required skills for a whole candidate list.
+    private static final int SKILL_LOOKUP_CHUNK = 1000;
+
     private final UserRepository userRepository;
     private final UserSkillRepository userSkillRepository;
 
@@ -32,11 +36,13 @@ public class ContentBasedAlgorithm {
 
         User user = userOpt.get();
         Map<Long, Integer> userSkillMap = getUserSkillMap(user);
+        Map<Long, Map<Long, Integer>> requiredSkillMaps = getCompetitionSkillMaps(competitions);
 
         Map<Long, Double> similarities = new HashMap<>();
 
         for (Competition competition : competitions) {
-            double similarity = calculateCompetitionSkillSimilarity(userSkillMap, competition);
+            Map<Long, Integer> requiredSkills = requiredSkillMaps.getOrDefault(competition.getId(), Map.of());
+            double similarity = requiredSkills.isEmpty() ? 0.0 : calculateCosineSimilarity(userSkillMap, requiredSkills);
             similarities.put(competition.getId(), similarity);
         }
 
@@ -85,19 +91,6 @@ public class ContentBasedAlgorithm {
         return matches;
     }
 
-    /**
-     * 计算用户技能与竞赛要求的相似度
-     */
-    private double calculateCompetitionSkillSimilarity(Map<Long, Integer> userSkills, Competition competition) {
-        Map<Long, Integer> requiredSkills = getCompetitionSkillMap(competition);
-
-        if (requiredSkills.isEmpty()) {
-            return 0.0;
-        }
-
-        return calculateCosineSimilarity(userSkills, requiredSkills);
-    }
-
     /**
      * 计算用户技能与队伍的互补性
      */
@@ -218,6 +211,25 @@ public class ContentBasedAlgorithm {
         return teamSkills;
     }
 
+    /**
+     * 批量获取竞赛技能要求映射（competitionId -> skillId -> importance），每批一条查询，避免逐个竞赛查询
+     */
+    private Map<Long, Map<Long, Integer>> getCompetitionSkillMaps(List<Competition> competitions) {
+        List<Long> competitionIds = competitions.stream()
+                .map(Competition::getId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, Map<Long, Integer>> result = new HashMap<>();
+        for (int from = 0; from < competitionIds.size(); from += SKILL_LOOKUP_CHUNK) {
+            List<Long> chunk = competitionIds.subList(from, Math.min(from + SKILL_LOOKUP_CHUNK, competitionIds.size()));
+            for (CompetitionSkillRef ref : competitionSkillRepository.findSkillRefsByCompetitionIds(chunk)) {
+                result.computeIfAbsent(ref.getCompetitionId(), key -> new HashMap<>())
+                        .merge(ref.getSkillId(), ref.getImportance(), Integer::max);
+            }
+        }
+        return result;
+    }
+
     /**
      * 获取竞赛技能要求映射 - 使用Repository查询
      */
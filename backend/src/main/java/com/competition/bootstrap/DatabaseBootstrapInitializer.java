@@ -7,6 +7,7 @@ import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.EncodedResource;
@@ -15,10 +16,14 @@ import org.springframework.jdbc.datasource.init.DatabasePopulator;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
 
 import javax.sql.DataSource;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 @Slf4j
 @Configuration
@@ -36,6 +41,9 @@ public class DatabaseBootstrapInitializer {
     };
     private static final String SCHEMA_SQL = "sql/schema_v3.sql";
     private static final String DATA_SQL = "sql/init.sql";
+    private static final String FINGERPRINT_KEY = "schema_fingerprint";
+
+    private final SchemaMigrationRunner migrationRunner = new SchemaMigrationRunner();
 
     @Bean
     public DataSourceInitializer databaseInitializer(DataSource dataSource) {
@@ -79,7 +87,28 @@ public class DatabaseBootstrapInitializer {
         return next;
     }
 
+    /**
+     * Warm start: one primary-key read of the stored fingerprint; when it matches the bundled scripts
+     * nothing else is checked. Otherwise (first boot, or the scripts changed) fall back to the per-table
+     * checks below, apply pending migrations and record the new fingerprint afterwards.
+     */
     private void runIfUninitialized(Connection connection) {
+        String fingerprint = scriptFingerprint();
+        if (fingerprint.equals(readFingerprint(connection))) {
+            log.info("Database schema fingerprint matches. Skip bootstrap checks.");
+            return;
+        }
+        runChecks(connection);
+        try {
+            migrationRunner.migrate(connection, new ClassPathResource(SCHEMA_SQL));
+        } catch (Exception e) {
+            log.error("Schema migration failed.", e);
+            throw new IllegalStateException("Schema migration failed", e);
+        }
+        writeFingerprint(connection, fingerprint);
+    }
+
+    private void runChecks(Connection connection) {
         try {
             boolean firstInit = !tableExists(connection, CHECK_TABLE);
             boolean schemaMissing = anyTableMissing(connection, REQUIRED_TABLES);
@@ -105,17 +134,60 @@ public class DatabaseBootstrapInitializer {
         }
     }
 
-    private boolean tableExists(Connection connection, String tableName) {
-        String sql = "SELECT COUNT(*) FROM information_schema.tables " +
-                "WHERE table_schema = DATABASE() AND table_name = ?";
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, tableName);
+    private String scriptFingerprint() {
+        try {
+            List<Resource> scripts = new ArrayList<>();
+            scripts.add(new ClassPathResource(SCHEMA_SQL));
+            scripts.add(new ClassPathResource(DATA_SQL));
+            scripts.addAll(migrationRunner.allResources());
+            scripts.add(new ByteArrayResource(String.join(",", REQUIRED_TABLES).getBytes(StandardCharsets.UTF_8)));
+            return SchemaMigrationRunner.sha256Hex(scripts);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to fingerprint bootstrap scripts", e);
+        }
+    }
+
+    private String readFingerprint(Connection connection) {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT meta_value FROM app_metadata WHERE meta_key = ?")) {
+            ps.setString(1, FINGERPRINT_KEY);
             try (ResultSet rs = ps.executeQuery()) {
-                if (!rs.next()) {
-                    return false;
+                return rs.next() ? rs.getString(1) : null;
+            }
+        } catch (SQLException e) {
+            // Table not there yet: fresh or pre-metadata database.
+            return null;
+        }
+    }
+
+    private void writeFingerprint(Connection connection, String fingerprint) {
+        try {
+            int updated;
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "UPDATE app_metadata SET meta_value = ?, updated_at = CURRENT_TIMESTAMP WHERE meta_key = ?")) {
+                ps.setString(1, fingerprint);
+                ps.setString(2, FINGERPRINT_KEY);
+                updated = ps.executeUpdate();
+            }
+            if (updated == 0) {
+                try (PreparedStatement ps = connection.prepareStatement(
+                        "INSERT INTO app_metadata (meta_key, meta_value, updated_at) VALUES (?, ?, CURRENT_TIMESTAMP)")) {
+                    ps.setString(1, FINGERPRINT_KEY);
+                    ps.setString(2, fingerprint);
+                    ps.executeUpdate();
                 }
-                return rs.getInt(1) > 0;
             }
+        } catch (SQLException e) {
+            // Not fatal: the next start simply runs the full checks again.
+            log.warn("Failed to record schema fingerprint.", e);
+        }
+    }
+
+    private boolean tableExists(Connection connection, String tableName) {
+        // JDBC metadata rather than information_schema + DATABASE(): on H2 DATABASE() is the catalog, not the schema.
+        try (ResultSet rs = connection.getMetaData().getTables(
+                connection.getCatalog(), connection.getSchema(), tableName, new String[]{"TABLE"})) {
+            return rs.next();
         } catch (Exception e) {
             log.error("Failed to check table existence: {}", tableName, e);
             throw new IllegalStateException("Failed to check table existence: " + tableName, e);
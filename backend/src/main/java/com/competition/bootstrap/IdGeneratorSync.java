@@ -0,0 +1,44 @@
+package com.competition.bootstrap;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * Performance profile only: before any id block is handed out, move every id_generators row past the
+ * current MAX(id) of its table. Rows written with AUTO_INCREMENT in the meantime (an instance started
+ * without the profile) would otherwise collide with the next block.
+ * <p>
+ * This only runs at startup, so while instances are up no raw-JDBC insert may let AUTO_INCREMENT pick ids
+ * for these tables: the counter hands out ids inside blocks the instances already hold. Bulk writers must
+ * reserve a range from id_generators and insert explicit ids, as SeedDataGenerator does.
+ */
+@Component
+@Profile("performance")
+@DependsOn("databaseInitializer")
+@RequiredArgsConstructor
+@Slf4j
+public class IdGeneratorSync {
+
+    private static final String[] TABLES = {"user_behaviors", "award_recipients", "team_members"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void sync() {
+        for (String table : TABLES) {
+            // Table names come from the constant above, never from input.
+            int raised = jdbcTemplate.update("UPDATE id_generators " +
+                    "SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM " + table + ") " +
+                    "WHERE gen_name = ? AND next_val <= (SELECT COALESCE(MAX(id), 0) FROM " + table + ")", table);
+            if (raised > 0) {
+                log.info("id_generators '{}' moved past existing ids.", table);
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.competition.bootstrap;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Minimal versioned migrations on top of the schema_v3.sql baseline.
+ * V1 is the baseline itself (applied by {@link DatabaseBootstrapInitializer}); every later change lives in
+ * sql/migration/V{n}__{description}.sql and is applied once, in version order, then recorded in schema_migrations.
+ * A file of the same version under sql/migration/{database}/ (e.g. h2/) replaces the generic one on that database,
+ * which is how MySQL-only syntax such as online DDL clauses gets a portable counterpart.
+ * Applied files must not be edited; a changed checksum is logged but not re-applied. The same goes for
+ * schema_v3.sql: databases created before versioning are adopted as V1 as they are, so every schema change,
+ * including new tables, belongs in a migration. The schema_migrations table itself is created here.
+ */
+@Slf4j
+class SchemaMigrationRunner {
+
+    static final int BASELINE_VERSION = 1;
+    private static final String LOCATION = "classpath*:sql/migration/";
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+    private static final String CREATE_HISTORY_TABLE = "CREATE TABLE IF NOT EXISTS schema_migrations (" +
+            "version INT PRIMARY KEY, " +
+            "description VARCHAR(200) NOT NULL, " +
+            "checksum CHAR(64) NOT NULL, " +
+            "execution_ms BIGINT NOT NULL DEFAULT 0, " +
+            "applied_at DATETIME NOT NULL" +
+            ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4";
+
+    private final PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+
+    void migrate(Connection connection, Resource baseline) throws SQLException, IOException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_HISTORY_TABLE);
+        }
+        Map<Integer, String> applied = appliedChecksums(connection);
+        if (!applied.containsKey(BASELINE_VERSION)) {
+            // Existing databases were created from schema_v3.sql directly: adopt them as V1 without re-running it.
+            // This only holds while schema_v3.sql stays exactly the baseline they were created from.
+            record(connection, BASELINE_VERSION, "baseline schema_v3", sha256Hex(List.of(baseline)), 0);
+        }
+
+        for (Migration migration : pending(connection)) {
+            String checksum = sha256Hex(List.of(migration.resource));
+            String recorded = applied.get(migration.version);
+            if (recorded != null) {
+                if (!recorded.equals(checksum)) {
+                    log.warn("Migration V{} was changed after it was applied; the change is ignored.", migration.version);
+                }
+                continue;
+            }
+            log.info("Applying migration V{} ({})", migration.version, migration.description);
+            long started = System.currentTimeMillis();
+            ScriptUtils.executeSqlScript(connection, new EncodedResource(migration.resource, StandardCharsets.UTF_8));
+            long elapsed = System.currentTimeMillis() - started;
+            record(connection, migration.version, migration.description, checksum, elapsed);
+            log.info("Migration V{} applied in {} ms", migration.version, elapsed);
+        }
+    }
+
+    /**
+     * Every migration file for every database, so that adding or editing one invalidates the startup fingerprint.
+     */
+    List<Resource> allResources() throws IOException {
+        List<Resource> resources = new ArrayList<>();
+        for (Resource resource : resolver.getResources(LOCATION + "**/V*__*.sql")) {
+            resources.add(resource);
+        }
+        resources.sort((a, b) -> describe(a).compareTo(describe(b)));
+        return resources;
+    }
+
+    static String sha256Hex(List<Resource> resources) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            for (Resource resource : resources) {
+                try (InputStream in = resource.getInputStream()) {
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        digest.update(buffer, 0, read);
+                    }
+                }
+            }
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private List<Migration> pending(Connection connection) throws SQLException, IOException {
+        Map<Integer, Migration> byVersion = new TreeMap<>();
+        collect(resolver.getResources(LOCATION + "V*__*.sql"), byVersion);
+        String database = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+        collect(resolver.getResources(LOCATION + database + "/V*__*.sql"), byVersion);
+        List<Migration> migrations = new ArrayList<>(byVersion.values());
+        migrations.removeIf(migration -> migration.version <= BASELINE_VERSION);
+        return migrations;
+    }
+
+    private void collect(Resource[] resources, Map<Integer, Migration> byVersion) {
+        for (Resource resource : resources) {
+            Matcher matcher = FILE_NAME.matcher(resource.getFilename() == null ? "" : resource.getFilename());
+            if (!matcher.matches()) {
+                throw new IllegalStateException("Invalid migration file name: " + resource.getFilename());
+            }
+            int version = Integer.parseInt(matcher.group(1));
+            // Called generic first, then database-specific, so the latter wins.
+            byVersion.put(version, new Migration(version, matcher.group(2).replace('_', ' '), resource));
+        }
+    }
+
+    private Map<Integer, String> appliedChecksums(Connection connection) throws SQLException {
+        Map<Integer, String> applied = new HashMap<>();
+        try (PreparedStatement ps = connection.prepareStatement("SELECT version, checksum FROM schema_migrations");
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                applied.put(rs.getInt(1), rs.getString(2));
+            }
+        }
+        return applied;
+    }
+
+    private void record(Connection connection, int version, String description, String checksum, long elapsedMs)
+            throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO schema_migrations (version, description, checksum, execution_ms, applied_at) " +
+                        "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)")) {
+            ps.setInt(1, version);
+            ps.setString(2, description);
+            ps.setString(3, checksum);
+            ps.setLong(4, elapsedMs);
+            ps.executeUpdate();
+        }
+    }
+
+    private static String describe(Resource resource) {
+        try {
+            return resource.getURL().toString();
+        } catch (IOException e) {
+            return String.valueOf(resource.getFilename());
+        }
+    }
+
+    private static final class Migration {
+        private final int version;
+        private final String description;
+        private final Resource resource;
+
+        private Migration(int version, String description, Resource resource) {
+            this.version = version;
+            this.description = description;
+            this.resource = resource;
+        }
+    }
+}
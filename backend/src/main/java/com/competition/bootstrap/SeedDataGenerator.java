@@ -0,0 +1,355 @@
+package com.competition.bootstrap;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Load-test data generator, active only with the "seed" profile (see application-seed.yml).
+ * Writes users, competitions, teams, team members and user behaviors with JDBC batch inserts on a thread pool.
+ * Rows are generated in fixed-size chunks, each from its own SplittableRandom seeded by (seed, table, chunk)
+ * (team members: by competition), so the same configuration always yields the same data regardless of thread
+ * scheduling. Ids are assigned explicitly above the current max id, which lets foreign keys be computed
+ * instead of read back. Tables whose ids the performance profile hands out in blocks (team_members,
+ * user_behaviors) get one reserved range from id_generators instead, so seeding next to a running instance
+ * cannot take ids from a block it holds.
+ * All seeded users share one BCrypt hash of app.seed.password.
+ */
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+@Slf4j
+public class SeedDataGenerator implements CommandLineRunner {
+
+    private static final int CHUNK_SIZE = 10_000;
+    // Every 20th seeded user is a TEACHER (team leader); the rest are STUDENTs.
+    private static final int TEACHER_EVERY = 20;
+    private static final String[] BEHAVIOR_TYPES = {"VIEW", "VIEW", "VIEW", "LIKE", "FAVORITE", "APPLY", "JOIN"};
+    private static final String[] CATEGORIES = {"程序设计", "数学建模", "创新创业", "电子设计", "人工智能", "信息安全"};
+    private static final String[] LEVELS = {"校级", "省级", "国家级"};
+    private static final String[] MAJORS = {"计算机科学与技术", "软件工程", "数学与应用数学", "电子信息工程", "人工智能"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext applicationContext;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.seed.users:1000000}")
+    private int userCount;
+
+    @Value("${app.seed.competitions:100000}")
+    private int competitionCount;
+
+    @Value("${app.seed.teams-per-competition:2}")
+    private int teamsPerCompetition;
+
+    @Value("${app.seed.members-per-team:3}")
+    private int membersPerTeam;
+
+    @Value("${app.seed.behaviors:50000000}")
+    private long behaviorCount;
+
+    @Value("${app.seed.threads:4}")
+    private int threads;
+
+    @Value("${app.seed.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.seed.seed:20240601}")
+    private long seed;
+
+    @Value("${app.seed.password:123456}")
+    private String password;
+
+    @Override
+    public void run(String... args) throws Exception {
+        int teacherCount = userCount / TEACHER_EVERY;
+        if (teamsPerCompetition > teacherCount) {
+            throw new IllegalStateException("app.seed.teams-per-competition exceeds number of seeded teachers");
+        }
+        if ((long) teamsPerCompetition * membersPerTeam > userCount - teacherCount) {
+            throw new IllegalStateException("app.seed.teams-per-competition x members-per-team exceeds number of seeded students");
+        }
+        long started = System.currentTimeMillis();
+        String passwordHash = passwordEncoder.encode(password);
+        long userBase = maxId("users");
+        long competitionBase = maxId("competitions");
+        long teamBase = maxId("teams");
+        long teamCount = (long) competitionCount * teamsPerCompetition;
+        long memberBase = reserveIds("team_members", teamCount * (membersPerTeam + 1));
+        long behaviorBase = reserveIds("user_behaviors", behaviorCount);
+        LocalDateTime now = LocalDateTime.now();
+        log.info("Seeding {} users, {} competitions, {} teams, {} behaviors with {} threads (seed={}).",
+                userCount, competitionCount, teamCount, behaviorCount, threads, seed);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            // Phases run in foreign-key order; chunks within a phase run in parallel.
+            runChunks(pool, "users", userCount, (chunk, from, to) -> insertUsers(chunk, from, to, userBase, passwordHash, now));
+            runChunks(pool, "competitions", competitionCount,
+                    (chunk, from, to) -> insertCompetitions(chunk, from, to, competitionBase, now));
+            runChunks(pool, "teams", teamCount,
+                    (chunk, from, to) -> insertTeams(from, to, teamBase, competitionBase, userBase, teacherCount, now));
+            runChunks(pool, "team_members", teamCount,
+                    (chunk, from, to) -> insertTeamMembers(from, to, memberBase, teamBase, userBase, teacherCount, now));
+            runChunks(pool, "user_behaviors", behaviorCount,
+                    (chunk, from, to) -> insertBehaviors(chunk, from, to, behaviorBase, userBase, competitionBase,
+                            teamBase, now));
+        } finally {
+            pool.shutdownNow();
+        }
+        log.info("Seeding finished in {} s.", (System.currentTimeMillis() - started) / 1000);
+        // One-shot CLI run: do not stay up with the schedulers.
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+
+    private void runChunks(ExecutorService pool, String table, long total, ChunkWriter writer)
+            throws InterruptedException, ExecutionException {
+        long phaseStart = System.currentTimeMillis();
+        List<Future<?>> futures = new ArrayList<>();
+        long chunk = 0;
+        for (long from = 0; from < total; from += CHUNK_SIZE, chunk++) {
+            long chunkIndex = chunk;
+            long start = from;
+            long end = Math.min(total, from + CHUNK_SIZE);
+            futures.add(pool.submit(() -> {
+                writer.write(chunkIndex, start, end);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        log.info("Seeded {} rows into {} in {} ms.", total, table, System.currentTimeMillis() - phaseStart);
+    }
+
+    private void insertUsers(long chunk, long from, long to, long base, String passwordHash, LocalDateTime now) {
+        SplittableRandom random = random(1, chunk);
+        Timestamp createdAt = Timestamp.valueOf(now);
+        batchInsert("INSERT INTO users (id, account_no, role, password, real_name, username, email, phone, " +
+                        "school, major, grade, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                from, to, (ps, i) -> {
+                    long id = base + i + 1;
+                    boolean teacher = (i + 1) % TEACHER_EVERY == 0;
+                    ps.setLong(1, id);
+                    ps.setString(2, (teacher ? "T" : "S") + id);
+                    ps.setString(3, teacher ? "TEACHER" : "STUDENT");
+                    ps.setString(4, passwordHash);
+                    ps.setString(5, "用户" + id);
+                    ps.setString(6, "seed_" + id);
+                    ps.setString(7, "seed_" + id + "@example.com");
+                    ps.setString(8, String.format("2%010d", id));
+                    ps.setString(9, "测试大学");
+                    ps.setString(10, MAJORS[random.nextInt(MAJORS.length)]);
+                    ps.setString(11, String.valueOf(2020 + random.nextInt(5)));
+                    ps.setTimestamp(12, createdAt);
+                    ps.setTimestamp(13, createdAt);
+                });
+    }
+
+    private void insertCompetitions(long chunk, long from, long to, long base, LocalDateTime now) {
+        SplittableRandom random = random(2, chunk);
+        LocalDate today = now.toLocalDate();
+        Timestamp createdAt = Timestamp.valueOf(now);
+        batchInsert("INSERT INTO competitions (id, name, description, organizer, start_date, end_date, " +
+                        "registration_deadline, min_team_size, max_team_size, category, level, status, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                from, to, (ps, i) -> {
+                    long id = base + i + 1;
+                    LocalDate start = today.plusDays(random.nextInt(-365, 365));
+                    LocalDate end = start.plusDays(1 + random.nextInt(60));
+                    String status = today.isBefore(start) ? "UPCOMING" : today.isAfter(end) ? "FINISHED" : "ONGOING";
+                    ps.setLong(1, id);
+                    ps.setString(2, "压测竞赛 " + id);
+                    ps.setString(3, "Generated competition " + id);
+                    ps.setString(4, "测试组委会");
+                    ps.setObject(5, start);
+                    ps.setObject(6, end);
+                    ps.setObject(7, start.minusDays(7));
+                    ps.setInt(8, 1);
+                    ps.setInt(9, 3 + random.nextInt(3));
+                    ps.setString(10, CATEGORIES[random.nextInt(CATEGORIES.length)]);
+                    ps.setString(11, LEVELS[random.nextInt(LEVELS.length)]);
+                    ps.setString(12, status);
+                    ps.setTimestamp(13, createdAt);
+                    ps.setTimestamp(14, createdAt);
+                });
+    }
+
+    private void insertTeams(long from, long to, long base, long competitionBase, long userBase,
+                             int teacherCount, LocalDateTime now) {
+        Timestamp createdAt = Timestamp.valueOf(now);
+        batchInsert("INSERT INTO teams (id, competition_id, leader_id, name, description, status, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                from, to, (ps, i) -> {
+                    long id = base + i + 1;
+                    ps.setLong(1, id);
+                    ps.setLong(2, competitionBase + i / teamsPerCompetition + 1);
+                    // Consecutive teams of one competition get distinct teachers: (competition, leader) is unique.
+                    ps.setLong(3, teacherId(userBase, i % teacherCount));
+                    ps.setString(4, "队伍 " + id);
+                    ps.setString(5, "Generated team " + id);
+                    ps.setString(6, "RECRUITING");
+                    ps.setTimestamp(7, createdAt);
+                    ps.setTimestamp(8, createdAt);
+                });
+    }
+
+    private void insertTeamMembers(long from, long to, long base, long teamBase, long userBase,
+                                   int teacherCount, LocalDateTime now) {
+        Timestamp joinedAt = Timestamp.valueOf(now);
+        int perTeam = membersPerTeam + 1;
+        // Rows arrive in team order, so the current competition's sample is all that needs keeping.
+        long[] sampledCompetition = {-1};
+        long[][] sampledStudents = {null};
+        // One row per (team, slot): slot 0 is the leader, the rest are students drawn for the competition.
+        batchInsert("INSERT INTO team_members (id, team_id, user_id, role, joined_at) VALUES (?, ?, ?, ?, ?)",
+                from * perTeam, to * perTeam, (ps, row) -> {
+                    long team = row / perTeam;
+                    int slot = (int) (row % perTeam);
+                    ps.setLong(1, base + row + 1);
+                    ps.setLong(2, teamBase + team + 1);
+                    long userId;
+                    if (slot == 0) {
+                        userId = teacherId(userBase, team % teacherCount);
+                    } else {
+                        long competition = team / teamsPerCompetition;
+                        if (sampledCompetition[0] != competition) {
+                            sampledStudents[0] = sampleStudents(competition, userBase);
+                            sampledCompetition[0] = competition;
+                        }
+                        userId = sampledStudents[0][(int) (team % teamsPerCompetition) * membersPerTeam + slot - 1];
+                    }
+                    ps.setLong(3, userId);
+                    ps.setString(4, slot == 0 ? "LEADER" : "MEMBER");
+                    ps.setTimestamp(5, joinedAt);
+                });
+    }
+
+    private void insertBehaviors(long chunk, long from, long to, long base, long userBase, long competitionBase,
+                                 long teamBase, LocalDateTime now) {
+        SplittableRandom random = random(4, chunk);
+        long teamCount = (long) competitionCount * teamsPerCompetition;
+        batchInsert("INSERT INTO user_behaviors (id, user_id, behavior_type, target_type, target_id, weight, created_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                from, to, (ps, i) -> {
+                    String type = BEHAVIOR_TYPES[random.nextInt(BEHAVIOR_TYPES.length)];
+                    boolean onTeam = "JOIN".equals(type) || ("APPLY".equals(type) && random.nextBoolean());
+                    ps.setLong(1, base + i + 1);
+                    ps.setLong(2, userBase + 1 + random.nextLong(userCount));
+                    ps.setString(3, type);
+                    ps.setString(4, onTeam ? "TEAM" : "COMPETITION");
+                    ps.setLong(5, onTeam
+                            ? teamBase + 1 + random.nextLong(teamCount)
+                            : competitionBase + 1 + random.nextLong(competitionCount));
+                    ps.setInt(6, "VIEW".equals(type) ? 1 : 3);
+                    ps.setTimestamp(7, Timestamp.valueOf(now.minusMinutes(random.nextInt(365 * 24 * 60))));
+                });
+    }
+
+    /**
+     * Insert rows [from, to) in JDBC batches of app.seed.batch-size. With rewriteBatchedStatements=true
+     * the MySQL driver turns each batch into multi-row INSERTs.
+     */
+    private void batchInsert(String sql, long from, long to, RowSetter setter) {
+        for (long batchStart = from; batchStart < to; batchStart += batchSize) {
+            long start = batchStart;
+            int size = (int) Math.min(batchSize, to - batchStart);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    setter.set(ps, start + i);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+    }
+
+    private long teacherId(long userBase, long teacherIndex) {
+        return userBase + (teacherIndex + 1) * TEACHER_EVERY;
+    }
+
+    /**
+     * Distinct students for every member slot of one competition's teams, so no student is in a team twice
+     * or in two teams of the same competition. Seeded per competition, independent of chunk boundaries.
+     */
+    private long[] sampleStudents(long competition, long userBase) {
+        SplittableRandom random = random(3, competition);
+        int needed = teamsPerCompetition * membersPerTeam;
+        Set<Long> picked = new LinkedHashSet<>(needed * 2);
+        while (picked.size() < needed) {
+            picked.add(randomStudentId(random, userBase));
+        }
+        return picked.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private long randomStudentId(SplittableRandom random, long userBase) {
+        long index;
+        do {
+            index = random.nextLong(userCount);
+        } while ((index + 1) % TEACHER_EVERY == 0);
+        return userBase + index + 1;
+    }
+
+    private SplittableRandom random(int table, long key) {
+        return new SplittableRandom(seed * 31 + table * 1_000_003L + key);
+    }
+
+    /**
+     * Reserve {@code count} ids of a table pooled through id_generators (see IdGeneratorSync) and return the
+     * id just before the first one. The row lock serializes this with block allocations of running instances.
+     */
+    private long reserveIds(String table, long count) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Long next = jdbcTemplate.queryForObject(
+                    "SELECT next_val FROM id_generators WHERE gen_name = ? FOR UPDATE", Long.class, table);
+            long first = Math.max(next, maxId(table) + 1);
+            jdbcTemplate.update("UPDATE id_generators SET next_val = ? WHERE gen_name = ?", first + count, table);
+            return first - 1;
+        });
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        void write(long chunk, long from, long to);
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps, long row) throws SQLException;
+    }
+}
@@ -0,0 +1,26 @@
+package com.competition.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Application metrics beyond what actuator collects by itself. Everything is kept in-process and served by
+ * /actuator/prometheus (and /actuator/metrics) on the management port, 127.0.0.1:8081 by default; no collector
+ * needs to be running.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+    }
+
+    @Bean
+    QueryCountFilter queryCountFilter(MeterRegistry registry) {
+        return new QueryCountFilter(registry);
+    }
+}
@@ -0,0 +1,36 @@
+package com.competition.config;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+
+/**
+ * Looks up the statement budget of the matched endpoint ("GET /api/competitions") and applies it to the
+ * request's open count. Runs after handler lookup, so statements issued by filters before it count as well.
+ */
+class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    private final Map<String, Integer> budgets;
+    private final boolean failOnExceed;
+
+    QueryBudgetInterceptor(Map<String, Integer> budgets, boolean failOnExceed) {
+        this.budgets = budgets;
+        this.failOnExceed = failOnExceed;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            String endpoint = request.getMethod() + " " + pattern;
+            Integer budget = budgets.get(endpoint);
+            if (budget != null) {
+                QueryCountInspector.limit(endpoint, budget, failOnExceed);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,51 @@
+package com.competition.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Records the number of Hibernate statements each request issued, tagged like http.server.requests
+ * (method and matched URI pattern), so a chatty endpoint shows up next to its latency histogram.
+ * Requests over their query budget (see QueryBudgetInterceptor) are logged.
+ */
+@Slf4j
+class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry registry;
+
+    QueryCountFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryCountInspector.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCountInspector.Count count = QueryCountInspector.close();
+            if (count.isExceeded()) {
+                log.warn("query budget exceeded: {} issued {} statements, budget {}",
+                        count.getEndpoint(), count.getStatements(), count.getBudget());
+            }
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("app.http.server.queries")
+                    .description("Hibernate statements per HTTP request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                    .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                    .register(registry)
+                    .record(count.getStatements());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.competition.config;
+
+import com.competition.exception.ApiException;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a count is open.
+ * QueryCountFilter opens one per HTTP request; work on other threads (schedulers, queue workers) is not
+ * counted, and neither is JdbcTemplate, which bypasses Hibernate. That leaves the JdbcTemplate read paths
+ * unguarded: profile honors (UserHonorService), leaderboard counters (LeaderboardService) and audit history
+ * (StateAuditService). A regression in those is not caught by the budgets.
+ * QueryBudgetInterceptor may put a budget on the open count; with fail set, the statement that goes over
+ * it throws, so the request fails at the offending call site instead of only being logged afterwards.
+ */
+class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<Count> COUNT = new ThreadLocal<>();
+
+    static void open() {
+        COUNT.set(new Count());
+    }
+
+    /**
+     * The count since open(), or null when none is open.
+     */
+    static Count close() {
+        Count count = COUNT.get();
+        COUNT.remove();
+        return count;
+    }
+
+    static void limit(String endpoint, int budget, boolean fail) {
+        Count count = COUNT.get();
+        if (count != null) {
+            count.endpoint = endpoint;
+            count.budget = budget;
+            count.fail = fail;
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Count count = COUNT.get();
+        if (count != null && ++count.statements > count.budget && count.fail && !count.failed) {
+            count.failed = true;
+            throw new ApiException(HttpStatus.INTERNAL_SERVER_ERROR, "QUERY_BUDGET_EXCEEDED",
+                    "query budget exceeded: " + count.endpoint + " allows " + count.budget
+                            + " statements, next was: " + sql);
+        }
+        return sql;
+    }
+
+    static final class Count {
+        private int statements;
+        private int budget = Integer.MAX_VALUE;
+        private String endpoint;
+        private boolean fail;
+        private boolean failed;
+
+        int getStatements() {
+            return statements;
+        }
+
+        int getBudget() {
+            return budget;
+        }
+
+        String getEndpoint() {
+            return endpoint;
+        }
+
+        boolean isExceeded() {
+            return statements > budget;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.competition.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * N+1 and slow-query guard for development and CI (application-dev.yml, application-ci.yml).
+ * Per-endpoint statement budgets are checked against the per-request count of QueryCountInspector;
+ * slow statements are logged by wrapping the application DataSource.
+ */
+@Configuration
+@EnableConfigurationProperties(QueryGuardProperties.class)
+public class QueryGuardConfig implements WebMvcConfigurer {
+
+    private final QueryGuardProperties properties;
+
+    public QueryGuardConfig(QueryGuardProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (properties.isEnabled()) {
+            registry.addInterceptor(new QueryBudgetInterceptor(properties.getBudgets(), properties.isFailOnExceed()));
+        }
+    }
+
+    // Static: post-processors are created before regular beans, so it reads the threshold from the Environment.
+    @Bean
+    @ConditionalOnExpression("${app.query-guard.slow-query-ms:0} > 0")
+    static BeanPostProcessor slowQueryLoggingPostProcessor(Environment environment) {
+        long thresholdMillis = environment.getProperty("app.query-guard.slow-query-ms", Long.class, 0L);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource) {
+                    return new SlowQueryLoggingDataSource((DataSource) bean, thresholdMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.competition.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties("app.query-guard")
+public class QueryGuardProperties {
+    // Apply the budgets below; off by default, on in the dev and ci profiles.
+    private boolean enabled;
+    // Fail the request (500) at the first statement over budget instead of logging a warning.
+    private boolean failOnExceed;
+    // "METHOD /uri/pattern" -> maximum Hibernate statements per request.
+    private Map<String, Integer> budgets = new HashMap<>();
+    // Log statements at least this slow, with binds and origin; 0 disables the wrapper.
+    private long slowQueryMs;
+}
@@ -0,0 +1,88 @@
+package com.competition.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Read/write splitting, enabled by setting app.datasource.replica.url.
+ * Without it the auto-configured single pool from spring.datasource is used as before.
+ * Routing counts are published as app.datasource.routing{target,reason}; replica state as
+ * app.datasource.replica.lag and app.datasource.replica.usable (see /actuator/metrics).
+ * Hibernate returns its connection after every transaction here (see {@link #releaseConnectionAfterTransaction()}),
+ * so each transaction is routed on its own even though open-session-in-view keeps one session per request.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${app.datasource.replica.url}") String url,
+                                              @Value("${app.datasource.replica.username:}") String username,
+                                              @Value("${app.datasource.replica.password:}") String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        // Same credentials as the primary unless overridden.
+        dataSource.setUsername(username.isEmpty() ? properties.determineUsername() : username);
+        dataSource.setPassword(password.isEmpty() ? properties.determinePassword() : password);
+        dataSource.setReadOnly(true);
+        // A replica that is down at boot must not stop the application; reads fall back to the primary.
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "stop")
+    ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                        @Value("${app.datasource.replica.max-lag-seconds:5}") long maxLagSeconds,
+                                        @Value("${app.datasource.replica.check-interval-ms:5000}") long intervalMillis) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, maxLagSeconds);
+        monitor.start(intervalMillis);
+        return monitor;
+    }
+
+    // Its own bean so that its routing counters are bound like any other MeterBinder.
+    @Bean
+    ReplicaRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                               @Qualifier("replicaDataSource") DataSource replica,
+                                               ReplicaLagMonitor lagMonitor) {
+        return new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+    }
+
+    // Spring's default, DELAYED_ACQUISITION_AND_HOLD, keeps the first connection for the whole session: with
+    // open-session-in-view a read-only lookup early in a request would pin the replica for the request's writes.
+    @Bean
+    HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,121 @@
+package com.competition.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the replica for its replication delay and marks it unusable when the delay exceeds the limit,
+ * replication is stopped, or the replica cannot be reached. Reads then go to the primary until a later
+ * check succeeds. A MySQL instance that is not configured as a replica (empty SHOW REPLICA STATUS)
+ * counts as zero lag, so two independent local instances can be used to exercise the routing.
+ */
+@Slf4j
+class ReplicaLagMonitor implements MeterBinder {
+
+    private final DataSource replica;
+    private final long maxLagSeconds;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-lag-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean usable;
+    private volatile double lagSeconds = -1;
+
+    ReplicaLagMonitor(DataSource replica, long maxLagSeconds) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("app.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replication delay of the read replica in seconds, -1 when unknown")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("app.datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+                .description("1 while read-only transactions are routed to the replica")
+                .register(registry);
+    }
+
+    void start(long intervalMillis) {
+        check();
+        executor.scheduleWithFixedDelay(this::check, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    boolean isReplicaUsable() {
+        return usable;
+    }
+
+    private void check() {
+        Double lag;
+        try (Connection connection = replica.getConnection()) {
+            lag = readLag(connection);
+        } catch (SQLException | RuntimeException ex) {
+            if (usable) {
+                log.warn("Replica check failed, routing reads to primary.", ex);
+            }
+            lag = null;
+        }
+        record(lag);
+    }
+
+    /**
+     * Apply one observation: the delay in seconds, or null when replication is broken or the replica is down.
+     */
+    void record(Double lag) {
+        boolean wasUsable = usable;
+        lagSeconds = lag == null ? -1 : lag;
+        usable = lag != null && lag <= maxLagSeconds;
+        if (wasUsable != usable) {
+            log.info("Read replica {} (lag {} s, limit {} s).", usable ? "in use" : "bypassed", lagSeconds, maxLagSeconds);
+        }
+    }
+
+    /**
+     * Seconds behind the source, 0 for a standalone instance, null when replication is broken.
+     */
+    private Double readLag(Connection connection) throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+        try (Statement statement = connection.createStatement()) {
+            if (!product.contains("mysql")) {
+                statement.execute("SELECT 1");
+                return 0d;
+            }
+            ResultSet rs;
+            String column;
+            try {
+                rs = statement.executeQuery("SHOW REPLICA STATUS");
+                column = "Seconds_Behind_Source";
+            } catch (SQLException ex) {
+                // Before MySQL 8.0.22.
+                rs = statement.executeQuery("SHOW SLAVE STATUS");
+                column = "Seconds_Behind_Master";
+            }
+            try (ResultSet status = rs) {
+                if (!status.next()) {
+                    return 0d;
+                }
+                long behind = status.getLong(column);
+                return status.wasNull() ? null : (double) behind;
+            }
+        }
+    }
+}
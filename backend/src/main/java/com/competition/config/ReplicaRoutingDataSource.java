@@ -0,0 +1,63 @@
+package com.competition.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends connections of read-only transactions to the replica and everything else to the primary.
+ * Falls back to the primary while {@link ReplicaLagMonitor} reports the replica as lagging or down.
+ * Must sit behind a LazyConnectionDataSourceProxy: the JPA transaction manager asks for a connection
+ * before the read-only flag is bound to the thread.
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.<Object, Object>of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            return PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            fallbacks.increment();
+            return PRIMARY;
+        }
+        reads.increment();
+        return REPLICA;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        routed(registry, writes, PRIMARY, "not_read_only");
+        routed(registry, reads, REPLICA, "read");
+        routed(registry, fallbacks, PRIMARY, "replica_unavailable");
+    }
+
+    private static void routed(MeterRegistry registry, LongAdder count, String target, String reason) {
+        FunctionCounter.builder("app.datasource.routing", count, LongAdder::sum)
+                .description("Connections handed out by the read/write routing data source")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
@@ -3,8 +3,10 @@ package com.competition.config;
 import com.competition.security.JwtAuthenticationEntryPoint;
 import com.competition.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -40,6 +42,10 @@ public class SecurityConfig {
                 .antMatchers("/api/competitions/public/**").permitAll()
                 /*  M1 验证：临时放行 skills（建议先放行 GET + POST，最小闭环）*/
                 .antMatchers("/api/skills/**").permitAll()
+                // SSE feed: EventSource cannot send the header, the controller checks its ?token= stream token.
+                .antMatchers(HttpMethod.GET, "/api/teams/*/posts/stream").permitAll()
+                // Actuator: only served on the loopback management port (management.server in application.yml).
+                .requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll()
                 .anyRequest().authenticated();
 
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
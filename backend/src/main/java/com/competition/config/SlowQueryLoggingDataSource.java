@@ -0,0 +1,120 @@
+package com.competition.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Development aid: times every statement executed through the application DataSource and logs those at or
+ * above the threshold with their bind values and the application frame that issued them. Covers Hibernate
+ * and JdbcTemplate alike. Wraps connections and statements in JDK proxies, so it is not meant for production.
+ */
+@Slf4j
+class SlowQueryLoggingDataSource extends DelegatingDataSource {
+
+    private static final String APP_PACKAGE = "com.competition.";
+    private static final String OWN_PACKAGE = "com.competition.config.";
+
+    private final long thresholdMillis;
+
+    SlowQueryLoggingDataSource(DataSource target, long thresholdMillis) {
+        super(target);
+        this.thresholdMillis = thresholdMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (isIdentityMethod(method)) {
+                        return identity(proxy, method, args);
+                    }
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement) {
+                        String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                        return wrap((Statement) result, sql);
+                    }
+                    return result;
+                });
+    }
+
+    private Statement wrap(Statement statement, String preparedSql) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        Map<Integer, Object> binds = new TreeMap<>();
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (isIdentityMethod(method)) {
+                        return identity(proxy, method, args);
+                    }
+                    String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                        binds.put((Integer) args[0], name.equals("setNull") ? null : args[1]);
+                    } else if (name.equals("clearParameters")) {
+                        binds.clear();
+                    }
+                    if (!name.startsWith("execute")) {
+                        return invoke(statement, method, args);
+                    }
+                    long start = System.nanoTime();
+                    try {
+                        return invoke(statement, method, args);
+                    } finally {
+                        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+                        if (elapsedMillis >= thresholdMillis) {
+                            String sql = preparedSql != null ? preparedSql
+                                    : args != null && args.length > 0 ? String.valueOf(args[0]) : "(batch)";
+                            log.warn("slow query {} ms at {}: {} binds={}", elapsedMillis, origin(), sql, binds);
+                        }
+                    }
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    // Spring compares and hashes connections it holds; a proxy must equal itself, not its target.
+    private static boolean isIdentityMethod(Method method) {
+        return method.getName().equals("equals") && method.getParameterCount() == 1
+                || method.getName().equals("hashCode") && method.getParameterCount() == 0;
+    }
+
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return method.getName().equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+    }
+
+    private static String origin() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APP_PACKAGE)
+                        && !frame.getClassName().startsWith(OWN_PACKAGE)
+                        && !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse("unknown"));
+    }
+}
@@ -0,0 +1,30 @@
+package com.competition.config;
+
+import com.competition.bootstrap.IdGeneratorSync;
+import com.competition.scheduler.CompetitionStatusScheduler;
+import com.competition.scheduler.SchedulerLeaseManager;
+import com.competition.scheduler.SubmissionUploadCleanupScheduler;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.init.DataSourceInitializer;
+
+/**
+ * Beans that must stay eager when spring.main.lazy-initialization is on (fast-startup profile):
+ * the schema bootstrap has to run before the first query, and scheduled or event-driven beans
+ * are never looked up by a request, so they would otherwise not start at all.
+ * Everything else, admin-only services included, is created on first use.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerBackgroundBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                DataSourceInitializer.class,
+                IdGeneratorSync.class,
+                SchedulerLeaseManager.class,
+                CompetitionStatusScheduler.class,
+                SubmissionUploadCleanupScheduler.class);
+    }
+}
@@ -12,6 +12,7 @@ import java.nio.file.Paths;
 public class WebConfig implements WebMvcConfigurer {
 
     // Local uploads directory with /files/** static mapping for thesis simplicity (no download auth).
+    // /files/blobs/** is served by FileDownloadController (ranges, ETag, private caching) and never reaches this handler.
     @Value("${app.upload-dir:uploads}")
     private String uploadDir;
 
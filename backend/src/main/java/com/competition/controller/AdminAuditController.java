@@ -0,0 +1,55 @@
+package com.competition.controller;
+
+import com.competition.dto.CursorPageResponse;
+import com.competition.dto.StateAuditEventResponse;
+import com.competition.service.StateAuditService;
+import com.competition.utils.JwtUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping("/api/admin/audit")
+@CrossOrigin(origins = "http://localhost:3000")
+@RequiredArgsConstructor
+public class AdminAuditController {
+
+    private final StateAuditService stateAuditService;
+    private final JwtUtils jwtUtils;
+
+    @GetMapping("/applications/{applicationId}")
+    public ResponseEntity<CursorPageResponse<StateAuditEventResponse>> applicationHistory(
+            HttpServletRequest request,
+            @PathVariable Long applicationId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        Long userId = getUserIdFromToken(request);
+        return ResponseEntity.ok(stateAuditService.applicationHistory(userId, applicationId, cursor, size));
+    }
+
+    @GetMapping("/teams/{teamId}")
+    public ResponseEntity<CursorPageResponse<StateAuditEventResponse>> teamHistory(
+            HttpServletRequest request,
+            @PathVariable Long teamId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        Long userId = getUserIdFromToken(request);
+        return ResponseEntity.ok(stateAuditService.teamHistory(userId, teamId, cursor, size));
+    }
+
+    private Long getUserIdFromToken(HttpServletRequest request) {
+        String token = request.getHeader("Authorization");
+        if (token != null && token.startsWith("Bearer ")) {
+            token = token.substring(7);
+            return jwtUtils.getUserIdFromToken(token);
+        }
+        throw new RuntimeException("invalid token");
+    }
+}
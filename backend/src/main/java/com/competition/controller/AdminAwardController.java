@@ -1,8 +1,11 @@
 package com.competition.controller;
 
+import com.competition.dto.AwardBulkPublishRequest;
+import com.competition.dto.AwardBulkPublishResponse;
 import com.competition.dto.AwardPublishRequest;
 import com.competition.dto.AwardPublishResponse;
 import com.competition.dto.AwardRecordItem;
+import com.competition.dto.CursorPageResponse;
 import com.competition.service.AwardAdminService;
 import com.competition.utils.JwtUtils;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +39,15 @@ public class AdminAwardController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<AwardBulkPublishResponse> publishAwards(
+            HttpServletRequest request,
+            @RequestBody AwardBulkPublishRequest publishRequest) {
+        Long userId = getUserIdFromToken(request);
+        AwardBulkPublishResponse response = awardAdminService.publishAwards(userId, publishRequest);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/records")
     public ResponseEntity<List<AwardRecordItem>> listAwardRecords(
             HttpServletRequest request,
@@ -47,6 +59,17 @@ public class AdminAwardController {
         return ResponseEntity.ok(records);
     }
 
+    @GetMapping("/records/page")
+    public ResponseEntity<CursorPageResponse<AwardRecordItem>> listAwardRecordsPage(
+            HttpServletRequest request,
+            @RequestParam(required = false) Long competitionId,
+            @RequestParam(required = false) Long teamId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        Long userId = getUserIdFromToken(request);
+        return ResponseEntity.ok(awardAdminService.listAwardRecordsPage(userId, competitionId, teamId, cursor, size));
+    }
+
     private Long getUserIdFromToken(HttpServletRequest request) {
         String token = request.getHeader("Authorization");
         if (token != null && token.startsWith("Bearer ")) {
@@ -4,10 +4,14 @@ import com.competition.dto.CompetitionAdminUpdateRequest;
 import com.competition.dto.CompetitionResponse;
 import com.competition.entity.Competition;
 import com.competition.service.AdminCompetitionService;
+import com.competition.service.SubmissionExportService;
 import com.competition.utils.JwtUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -15,6 +19,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 
 @RestController
 @RequestMapping("/api/admin/competitions")
@@ -23,6 +29,7 @@ import javax.servlet.http.HttpServletRequest;
 public class AdminCompetitionController {
 
     private final AdminCompetitionService adminCompetitionService;
+    private final SubmissionExportService submissionExportService;
     private final JwtUtils jwtUtils;
 
     @PutMapping("/{competitionId}")
@@ -35,6 +42,22 @@ public class AdminCompetitionController {
         return ResponseEntity.ok(toResponse(updated));
     }
 
+    @GetMapping("/{competitionId}/submissions/export")
+    public void exportSubmissions(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            @PathVariable Long competitionId) throws IOException {
+        Long userId = getUserIdFromToken(request);
+        submissionExportService.checkExportAccess(userId, competitionId);
+
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("competition-" + competitionId + "-submissions.zip")
+                .build()
+                .toString());
+        submissionExportService.writeExport(competitionId, response.getOutputStream());
+    }
+
     private Long getUserIdFromToken(HttpServletRequest request) {
         String token = request.getHeader("Authorization");
         if (token != null && token.startsWith("Bearer ")) {
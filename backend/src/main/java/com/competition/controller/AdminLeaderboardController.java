@@ -0,0 +1,39 @@
+package com.competition.controller;
+
+import com.competition.service.LeaderboardService;
+import com.competition.utils.JwtUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/leaderboards")
+@CrossOrigin(origins = "http://localhost:3000")
+@RequiredArgsConstructor
+public class AdminLeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+    private final JwtUtils jwtUtils;
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild(HttpServletRequest request) {
+        Long userId = getUserIdFromToken(request);
+        int users = leaderboardService.rebuildCounters(userId);
+        return ResponseEntity.ok(Map.of("users", users));
+    }
+
+    private Long getUserIdFromToken(HttpServletRequest request) {
+        String token = request.getHeader("Authorization");
+        if (token != null && token.startsWith("Bearer ")) {
+            token = token.substring(7);
+            return jwtUtils.getUserIdFromToken(token);
+        }
+        throw new RuntimeException("invalid token");
+    }
+}
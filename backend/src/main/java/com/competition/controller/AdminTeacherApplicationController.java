@@ -1,6 +1,7 @@
 package com.competition.controller;
 
 import com.competition.dto.AdminTeacherApplicationListItemDTO;
+import com.competition.dto.CursorPageResponse;
 import com.competition.dto.TeacherApplicationResponse;
 import com.competition.dto.TeacherApplicationReviewRequest;
 import com.competition.entity.TeacherApplication;
@@ -44,6 +45,23 @@ public class AdminTeacherApplicationController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Admin list teacher applications with keyset paging, newest first.
+     * Pass nextCursor back as cursor; deep pages cost the same as the first one.
+     * Response contract: CursorPageResponse of AdminTeacherApplicationListItemDTO.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageResponse<AdminTeacherApplicationListItemDTO>> getApplicationsPage(
+            HttpServletRequest httpRequest,
+            @RequestParam(required = false) TeacherApplication.Status status,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        Long userId = getUserIdFromToken(httpRequest);
+        return ResponseEntity.ok(teacherApplicationService
+                .listAdminApplicationsPage(userId, status, keyword, cursor, size));
+    }
+
     /**
      * Admin review teacher application.
      * Response contract: TeacherApplicationResponse.
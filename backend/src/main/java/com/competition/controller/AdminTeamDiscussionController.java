@@ -0,0 +1,55 @@
+package com.competition.controller;
+
+import com.competition.exception.ApiException;
+import com.competition.service.TeamDiscussionPostService;
+import com.competition.utils.JwtUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/teams")
+@CrossOrigin(origins = "http://localhost:3000")
+@RequiredArgsConstructor
+public class AdminTeamDiscussionController {
+
+    private final TeamDiscussionPostService teamDiscussionPostService;
+    private final JwtUtils jwtUtils;
+
+    // mode=soft marks every post deleted; mode=purge removes the rows. Only for DISBANDED teams.
+    @DeleteMapping("/{teamId:\\d+}/posts")
+    public ResponseEntity<Map<String, Object>> deleteTeamPosts(
+            HttpServletRequest request,
+            @PathVariable Long teamId,
+            @RequestParam(defaultValue = "soft") String mode) {
+        Long userId = getUserIdFromToken(request);
+        boolean purge;
+        if ("purge".equalsIgnoreCase(mode)) {
+            purge = true;
+        } else if ("soft".equalsIgnoreCase(mode)) {
+            purge = false;
+        } else {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "mode must be soft or purge");
+        }
+        int affected = teamDiscussionPostService.adminDeleteTeamPosts(userId, teamId, purge);
+        return ResponseEntity.ok(Map.of("ok", true, "affected", affected));
+    }
+
+    private Long getUserIdFromToken(HttpServletRequest request) {
+        String token = request.getHeader("Authorization");
+        if (token != null && token.startsWith("Bearer ")) {
+            token = token.substring(7);
+            return jwtUtils.getUserIdFromToken(token);
+        }
+        throw new RuntimeException("invalid token");
+    }
+}
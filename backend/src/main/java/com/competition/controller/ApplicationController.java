@@ -1,7 +1,9 @@
 package com.competition.controller;
 
+import com.competition.dto.ApplicationAdmissionResponse;
 import com.competition.dto.ApplicationCreateRequest;
 import com.competition.dto.ApplicationResponse;
+import com.competition.service.ApplicationAdmissionService;
 import com.competition.service.ApplicationService;
 import com.competition.utils.JwtUtils;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +20,7 @@ import javax.servlet.http.HttpServletRequest;
 public class ApplicationController {
 
     private final ApplicationService applicationService;
+    private final ApplicationAdmissionService applicationAdmissionService;
     private final JwtUtils jwtUtils;
 
     @PostMapping
@@ -29,6 +32,27 @@ public class ApplicationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Queued variant of POST /api/applications for registration rushes: 202 with a ticket to poll.
+     * When admission mode is off the ticket is already finished.
+     */
+    @PostMapping("/admission")
+    public ResponseEntity<ApplicationAdmissionResponse> submitApplication(
+            HttpServletRequest request,
+            @RequestBody ApplicationCreateRequest body) {
+        Long userId = getUserIdFromToken(request);
+        ApplicationAdmissionResponse response = applicationAdmissionService.submit(userId, body);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/admission/{ticketId}")
+    public ResponseEntity<ApplicationAdmissionResponse> getAdmissionTicket(
+            HttpServletRequest request,
+            @PathVariable String ticketId) {
+        Long userId = getUserIdFromToken(request);
+        return ResponseEntity.ok(applicationAdmissionService.getTicket(userId, ticketId));
+    }
+
     private Long getUserIdFromToken(HttpServletRequest request) {
         String token = request.getHeader("Authorization");
         if (token != null && token.startsWith("Bearer ")) {
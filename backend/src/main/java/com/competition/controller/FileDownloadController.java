@@ -0,0 +1,161 @@
+package com.competition.controller;
+
+import com.competition.exception.ApiException;
+import com.competition.service.SubmissionBlobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves content-addressed submission files (/files/blobs/**). The path is the SHA-256 of the content,
+ * so the hash doubles as a strong ETag and the browser may keep a response for a year; shared caches may
+ * not, because the files belong to one team. Other /files/** paths (files uploaded before the blob store
+ * existed) still go through the static resource handler in WebConfig.
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class FileDownloadController {
+
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+    // Private: submissions are team-only, so shared caches (proxies, CDNs) must not keep a copy.
+    private static final String CACHE_PRIVATE =
+            CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().getHeaderValue();
+
+    private final SubmissionBlobService submissionBlobService;
+
+    @GetMapping("/files/blobs/{prefix}/{contentHash}")
+    public void download(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            @PathVariable String prefix,
+            @PathVariable String contentHash,
+            @RequestParam(value = "name", required = false) String name) throws IOException {
+        if (!contentHash.startsWith(prefix) || prefix.length() != 2) {
+            throw new ApiException(HttpStatus.NOT_FOUND, "file not found");
+        }
+        Path path = submissionBlobService.blobPath(contentHash);
+        long size = Files.size(path);
+        String etag = "\"" + contentHash + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_PRIVATE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (matchesIfNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        MediaType mediaType = name == null
+                ? MediaType.APPLICATION_OCTET_STREAM
+                : MediaTypeFactory.getMediaType(name).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        response.setContentType(mediaType.toString());
+        if (name != null && !name.isBlank()) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(name, StandardCharsets.UTF_8)
+                    .build()
+                    .toString());
+        }
+
+        long start = 0;
+        long end = size - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        // A stale If-Range means the client's partial copy is of other content: send the whole file.
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(etag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException ex) {
+                ranges = List.of();
+            }
+            // Multipart/byteranges is not worth supporting here; several ranges get the full body.
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                if (size == 0 || range.getRangeStart(size) >= size) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                start = range.getRangeStart(size);
+                end = range.getRangeEnd(size);
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentLengthLong(size == 0 ? 0 : length);
+        if ("HEAD".equals(request.getMethod()) || size == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            // Tomcat writes the region with sendfile(2) after the handler returns; nothing passes through the heap.
+            request.setAttribute(SENDFILE_FILENAME_ATTR, path.toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        } catch (IOException ex) {
+            // Usually the client went away mid-download; the response is already committed.
+            log.debug("file download aborted, hash={}", contentHash, ex);
+        }
+    }
+
+    private boolean matchesIfNoneMatch(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
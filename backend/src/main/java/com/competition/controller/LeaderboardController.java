@@ -0,0 +1,65 @@
+package com.competition.controller;
+
+import com.competition.dto.LeaderboardEntry;
+import com.competition.dto.LeaderboardResponse;
+import com.competition.service.LeaderboardService;
+import com.competition.utils.JwtUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping("/api/leaderboards")
+@CrossOrigin(origins = "http://localhost:3000")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+    private final JwtUtils jwtUtils;
+
+    @GetMapping("/users")
+    public ResponseEntity<LeaderboardResponse> topUsers(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String metric,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(leaderboardService.topUsers(role, metric, size));
+    }
+
+    @GetMapping("/users/me")
+    public ResponseEntity<LeaderboardEntry> myUserRank(
+            HttpServletRequest request,
+            @RequestParam(required = false) String metric) {
+        Long userId = getUserIdFromToken(request);
+        return ResponseEntity.ok(leaderboardService.myUserRank(userId, metric));
+    }
+
+    @GetMapping("/schools")
+    public ResponseEntity<LeaderboardResponse> topSchools(
+            @RequestParam(required = false) String metric,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(leaderboardService.topSchools(metric, size));
+    }
+
+    @GetMapping("/schools/me")
+    public ResponseEntity<LeaderboardEntry> mySchoolRank(
+            HttpServletRequest request,
+            @RequestParam(required = false) String metric) {
+        Long userId = getUserIdFromToken(request);
+        return ResponseEntity.ok(leaderboardService.mySchoolRank(userId, metric));
+    }
+
+    private Long getUserIdFromToken(HttpServletRequest request) {
+        String token = request.getHeader("Authorization");
+        if (token != null && token.startsWith("Bearer ")) {
+            token = token.substring(7);
+            return jwtUtils.getUserIdFromToken(token);
+        }
+        throw new RuntimeException("invalid token");
+    }
+}
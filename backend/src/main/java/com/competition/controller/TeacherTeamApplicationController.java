@@ -1,7 +1,10 @@
 package com.competition.controller;
 
+import com.competition.dto.ApplicationBulkReviewRequest;
+import com.competition.dto.ApplicationBulkReviewResponse;
 import com.competition.dto.ApplicationResponse;
 import com.competition.dto.ApplicationReviewRequest;
+import com.competition.dto.CursorPageResponse;
 import com.competition.service.ApplicationService;
 import com.competition.utils.JwtUtils;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +33,17 @@ public class TeacherTeamApplicationController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageResponse<ApplicationResponse>> listApplicationsPage(
+            HttpServletRequest request,
+            @RequestParam(required = false) Long teamId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        Long userId = getUserIdFromToken(request);
+        return ResponseEntity.ok(applicationService.listForTeacherPage(userId, teamId, status, cursor, size));
+    }
+
     @PutMapping("/{id}/review")
     public ResponseEntity<ApplicationResponse> reviewApplication(
             HttpServletRequest request,
@@ -40,6 +54,15 @@ public class TeacherTeamApplicationController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/bulk-review")
+    public ResponseEntity<ApplicationBulkReviewResponse> reviewApplications(
+            HttpServletRequest request,
+            @RequestBody ApplicationBulkReviewRequest body) {
+        Long userId = getUserIdFromToken(request);
+        ApplicationBulkReviewResponse response = applicationService.reviewBatch(userId, body);
+        return ResponseEntity.ok(response);
+    }
+
     private Long getUserIdFromToken(HttpServletRequest request) {
         String token = request.getHeader("Authorization");
         if (token != null && token.startsWith("Bearer ")) {
@@ -138,8 +138,8 @@ public class TeamController {
     public ResponseEntity<TeamDTO> disbandTeam(
             HttpServletRequest request,
             @PathVariable Long teamId) {
-        requireAdmin(request);
-        TeamDTO disbanded = teamService.disbandTeamByAdmin(teamId);
+        Long adminUserId = requireAdmin(request);
+        TeamDTO disbanded = teamService.disbandTeamByAdmin(adminUserId, teamId);
         return ResponseEntity.ok(disbanded);
     }
 
@@ -173,12 +173,13 @@ public class TeamController {
         throw new ApiException(HttpStatus.UNAUTHORIZED, "无效的token");
     }
 
-    private void requireAdmin(HttpServletRequest request) {
+    private Long requireAdmin(HttpServletRequest request) {
         Long userId = getUserIdFromToken(request);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "用户不存在"));
         if (user.getRole() != User.Role.ADMIN) {
             throw new ApiException(HttpStatus.FORBIDDEN, "无权限：仅管理员可操作队伍");
         }
+        return userId;
     }
 }
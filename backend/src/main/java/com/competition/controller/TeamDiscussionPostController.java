@@ -1,13 +1,18 @@
 package com.competition.controller;
 
+import com.competition.dto.CursorPageResponse;
 import com.competition.dto.TeamDiscussionPostCreateRequest;
 import com.competition.dto.TeamDiscussionPostResponse;
+import com.competition.exception.ApiException;
+import com.competition.service.TeamDiscussionFeedService;
 import com.competition.service.TeamDiscussionPostService;
 import com.competition.utils.JwtUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
@@ -21,6 +26,7 @@ import java.util.Map;
 public class TeamDiscussionPostController {
 
     private final TeamDiscussionPostService teamDiscussionPostService;
+    private final TeamDiscussionFeedService teamDiscussionFeedService;
     private final JwtUtils jwtUtils;
 
     @GetMapping("/{teamId:\\d+}/posts")
@@ -32,6 +38,42 @@ public class TeamDiscussionPostController {
         return ResponseEntity.ok(posts);
     }
 
+    @GetMapping("/{teamId:\\d+}/posts/page")
+    public ResponseEntity<CursorPageResponse<TeamDiscussionPostResponse>> listPostsPage(
+            HttpServletRequest request,
+            @PathVariable Long teamId,
+            @RequestParam(value = "since", required = false) String since,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "overlap", defaultValue = "false") boolean overlap) {
+        Long userId = getUserIdFromToken(request);
+        return ResponseEntity.ok(teamDiscussionPostService.listPostsPage(userId, teamId, since, size, overlap));
+    }
+
+    // EventSource cannot set headers: the browser fetches a short-lived token here and opens the stream with ?token=.
+    @PostMapping("/{teamId:\\d+}/posts/stream-token")
+    public ResponseEntity<Map<String, Object>> createStreamToken(
+            HttpServletRequest request,
+            @PathVariable Long teamId) {
+        Long userId = getUserIdFromToken(request);
+        teamDiscussionPostService.checkFeedAccess(userId, teamId);
+        String username = jwtUtils.getUsernameFromToken(request.getHeader("Authorization").substring(7));
+        return ResponseEntity.ok(Map.of(
+                "token", jwtUtils.generateStreamToken(userId, username, teamId),
+                "expiresIn", jwtUtils.getStreamTokenSeconds()));
+    }
+
+    // Server-sent events: "created" / "deleted" for this team; reconnect and resume with /posts/page?since=.
+    // Authenticated by the Authorization header or a stream token (permitted in SecurityConfig for that reason).
+    @GetMapping(value = "/{teamId:\\d+}/posts/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPosts(
+            HttpServletRequest request,
+            @PathVariable Long teamId,
+            @RequestParam(value = "token", required = false) String streamToken) {
+        Long userId = streamToken != null ? getUserIdFromStreamToken(streamToken, teamId) : getUserIdFromToken(request);
+        teamDiscussionPostService.checkFeedAccess(userId, teamId);
+        return teamDiscussionFeedService.subscribe(teamId, userId);
+    }
+
     @PostMapping("/{teamId:\\d+}/posts")
     public ResponseEntity<TeamDiscussionPostResponse> createPost(
             HttpServletRequest request,
@@ -52,6 +94,14 @@ public class TeamDiscussionPostController {
         return ResponseEntity.ok(Map.of("ok", true));
     }
 
+    private Long getUserIdFromStreamToken(String streamToken, Long teamId) {
+        try {
+            return jwtUtils.getUserIdFromStreamToken(streamToken, teamId);
+        } catch (RuntimeException ex) {
+            throw new ApiException(HttpStatus.UNAUTHORIZED, "invalid stream token");
+        }
+    }
+
     private Long getUserIdFromToken(HttpServletRequest request) {
         String token = request.getHeader("Authorization");
         if (token != null && token.startsWith("Bearer ")) {
@@ -1,6 +1,9 @@
 package com.competition.controller;
 
+import com.competition.dto.SubmissionUploadCreateRequest;
+import com.competition.dto.SubmissionUploadSessionResponse;
 import com.competition.dto.TeamSubmissionResponse;
+import com.competition.exception.ApiException;
 import com.competition.service.TeamSubmissionService;
 import com.competition.utils.JwtUtils;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +13,9 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -50,6 +56,52 @@ public class TeamSubmissionController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/{teamId:\\d+}/submissions/uploads")
+    public ResponseEntity<SubmissionUploadSessionResponse> createUploadSession(
+            HttpServletRequest request,
+            @PathVariable Long teamId,
+            @Valid @RequestBody SubmissionUploadCreateRequest body) {
+        Long userId = getUserIdFromToken(request);
+        SubmissionUploadSessionResponse created = teamSubmissionService.createUploadSession(userId, teamId, body);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
+    @GetMapping("/{teamId:\\d+}/submissions/uploads/{uploadId}")
+    public ResponseEntity<SubmissionUploadSessionResponse> getUploadSession(
+            HttpServletRequest request,
+            @PathVariable Long teamId,
+            @PathVariable String uploadId) {
+        Long userId = getUserIdFromToken(request);
+        return ResponseEntity.ok(teamSubmissionService.getUploadSession(userId, teamId, uploadId));
+    }
+
+    // Raw request body (application/octet-stream); offset must be a multiple of the session chunk size.
+    @PutMapping("/{teamId:\\d+}/submissions/uploads/{uploadId}/chunks")
+    public ResponseEntity<SubmissionUploadSessionResponse> uploadChunk(
+            HttpServletRequest request,
+            @PathVariable Long teamId,
+            @PathVariable String uploadId,
+            @RequestParam("offset") long offset) {
+        Long userId = getUserIdFromToken(request);
+        try (InputStream body = request.getInputStream()) {
+            SubmissionUploadSessionResponse response = teamSubmissionService.writeChunk(
+                    userId, teamId, uploadId, offset, request.getContentLengthLong(), body);
+            return ResponseEntity.ok(response);
+        } catch (IOException ex) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "chunk read failed");
+        }
+    }
+
+    @PostMapping("/{teamId:\\d+}/submissions/uploads/{uploadId}/complete")
+    public ResponseEntity<TeamSubmissionResponse> completeUpload(
+            HttpServletRequest request,
+            @PathVariable Long teamId,
+            @PathVariable String uploadId) {
+        Long userId = getUserIdFromToken(request);
+        TeamSubmissionResponse created = teamSubmissionService.completeUpload(userId, teamId, uploadId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
     private Long getUserIdFromToken(HttpServletRequest request) {
         String token = request.getHeader("Authorization");
         if (token != null && token.startsWith("Bearer ")) {
@@ -102,6 +102,16 @@ public class UserController {
         return ResponseEntity.ok(applications);
     }
 
+    @GetMapping("/me/applications/page")
+    public ResponseEntity<CursorPageResponse<ApplicationResponse>> getMyApplicationsPage(
+            HttpServletRequest request,
+            @RequestParam(required = false) Long competitionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        Long userId = getUserIdFromToken(request);
+        return ResponseEntity.ok(applicationService.listMyApplicationsPage(userId, competitionId, cursor, size));
+    }
+
     @GetMapping("/me/team")
     public ResponseEntity<TeamDTO> getMyTeam(
             HttpServletRequest request,
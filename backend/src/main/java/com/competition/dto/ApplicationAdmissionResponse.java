@@ -0,0 +1,17 @@
+package com.competition.dto;
+
+import com.competition.service.ApplicationAdmissionService;
+import lombok.Data;
+
+@Data
+public class ApplicationAdmissionResponse {
+    private String ticketId;
+    private ApplicationAdmissionService.State state;
+    // Place in its partition's queue while QUEUED (1 = next), otherwise 0.
+    private Long position;
+    // Set when ADMITTED.
+    private ApplicationResponse application;
+    // Set when REJECTED: the HTTP status and message the direct endpoint would have returned.
+    private Integer errorStatus;
+    private String error;
+}
@@ -0,0 +1,10 @@
+package com.competition.dto;
+
+import lombok.Data;
+
+@Data
+public class ApplicationBulkReviewItem {
+    private Long applicationId;
+    private Boolean approved;
+    private String reason;
+}
@@ -0,0 +1,11 @@
+package com.competition.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ApplicationBulkReviewRequest {
+    private Long teamId;
+    private List<ApplicationBulkReviewItem> items;
+}
@@ -0,0 +1,14 @@
+package com.competition.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ApplicationBulkReviewResponse {
+    private Long teamId;
+    private Integer approvedCount;
+    private Integer rejectedCount;
+    private Integer failedCount;
+    private List<ApplicationBulkReviewResult> results; // request order
+}
@@ -0,0 +1,12 @@
+package com.competition.dto;
+
+import com.competition.entity.Application;
+import lombok.Data;
+
+@Data
+public class ApplicationBulkReviewResult {
+    private Long applicationId;
+    private Long studentId;
+    private Application.Status status; // APPROVED / REJECTED, null when the item failed
+    private String error; // set when the item failed
+}
@@ -0,0 +1,9 @@
+package com.competition.dto;
+
+import lombok.Data;
+
+@Data
+public class AwardBulkPublishItem {
+    private Long teamId;
+    private String awardName;
+}
@@ -0,0 +1,11 @@
+package com.competition.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class AwardBulkPublishRequest {
+    private Long competitionId;
+    private List<AwardBulkPublishItem> items;
+}
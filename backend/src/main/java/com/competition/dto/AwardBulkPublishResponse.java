@@ -0,0 +1,13 @@
+package com.competition.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class AwardBulkPublishResponse {
+    private Long competitionId;
+    private Integer publishedCount;
+    private Integer rejectedCount;
+    private List<AwardBulkPublishResult> results; // request order
+}
@@ -0,0 +1,16 @@
+package com.competition.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class AwardBulkPublishResult {
+    private Long teamId;
+    private String awardName;
+    private Boolean published;
+    private String error; // set when not published
+    private Long awardId;
+    private Integer recipientCount;
+    private List<Long> recipientUserIds;
+}
@@ -0,0 +1,12 @@
+package com.competition.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class CursorPageResponse<T> {
+    private List<T> items;
+    // Pass back as the cursor of the next request; stays at the last known position when items is empty.
+    private String nextCursor;
+    private Boolean hasMore;
+}
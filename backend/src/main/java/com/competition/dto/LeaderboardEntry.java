@@ -0,0 +1,12 @@
+package com.competition.dto;
+
+import lombok.Data;
+
+@Data
+public class LeaderboardEntry {
+    private Integer rank; // null when not on the board (score 0)
+    private Long userId; // null on school boards
+    private String name;
+    private String school;
+    private int score;
+}
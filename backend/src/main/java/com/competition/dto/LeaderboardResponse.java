@@ -0,0 +1,14 @@
+package com.competition.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class LeaderboardResponse {
+    private String scope; // users or schools
+    private String role; // users only: STUDENT or TEACHER
+    private String metric;
+    private int total;
+    private List<LeaderboardEntry> entries;
+}
@@ -0,0 +1,20 @@
+package com.competition.dto;
+
+import com.competition.event.StateTransitionEvent;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class StateAuditEventResponse {
+    private Long id;
+    private LocalDateTime occurredAt;
+    private StateTransitionEvent.EntityType entityType;
+    private Long entityId;
+    private Long teamId;
+    private StateTransitionEvent.Action action;
+    private String fromStatus;
+    private String toStatus;
+    private Long actorId;
+    private String reason;
+}
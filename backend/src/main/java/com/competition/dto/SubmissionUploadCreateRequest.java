@@ -0,0 +1,21 @@
+package com.competition.dto;
+
+import lombok.Data;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+
+@Data
+public class SubmissionUploadCreateRequest {
+    @NotBlank(message = "fileName is required")
+    @Size(max = 255, message = "fileName is too long")
+    private String fileName;
+
+    @NotNull(message = "totalSize is required")
+    @Positive(message = "totalSize must be positive")
+    private Long totalSize;
+
+    @Size(max = 255, message = "remark is too long")
+    private String remark;
+}
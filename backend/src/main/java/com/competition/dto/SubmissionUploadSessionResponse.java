@@ -0,0 +1,21 @@
+package com.competition.dto;
+
+import com.competition.entity.SubmissionUploadSession;
+import lombok.Data;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class SubmissionUploadSessionResponse {
+    private String uploadId;
+    private Long teamId;
+    private String fileName;
+    private Long totalSize;
+    private Integer chunkSize;
+    private Integer chunkCount;
+    private Integer receivedCount;
+    private List<Integer> missingChunks;
+    private SubmissionUploadSession.Status status;
+    private Long submissionId;
+    private LocalDateTime expiresAt;
+}
@@ -12,6 +12,8 @@ public class TeamSubmissionResponse {
     private String submitterUsername;
     private String fileName;
     private String fileUrl;
+    private Long fileSize;
+    private String contentHash;
     private String remark;
     private LocalDateTime submittedAt;
     private Boolean isCurrent;
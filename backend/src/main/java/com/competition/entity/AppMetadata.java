@@ -0,0 +1,34 @@
+package com.competition.entity;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "app_metadata")
+public class AppMetadata {
+    @Id
+    @Column(name = "meta_key", length = 64)
+    private String metaKey;
+
+    @Column(name = "meta_value", nullable = false, length = 255)
+    private String metaValue;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public AppMetadata(String metaKey, String metaValue) {
+        this.metaKey = metaKey;
+        this.metaValue = metaValue;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,43 @@
+package com.competition.entity;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(onlyExplicitlyIncluded = true)
+@Entity
+@Table(name = "submission_blobs")
+public class SubmissionBlob {
+    @Id
+    @Column(name = "content_hash", length = 64)
+    @EqualsAndHashCode.Include
+    @ToString.Include
+    private String contentHash; // SHA-256 (hex)
+
+    @Column(name = "size_bytes", nullable = false)
+    @ToString.Include
+    private Long sizeBytes;
+
+    @Column(name = "storage_path", nullable = false, length = 255)
+    private String storagePath; // relative to app.upload-dir
+
+    @Column(name = "ref_count", nullable = false)
+    @ToString.Include
+    private Integer refCount = 0;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (refCount == null) {
+            refCount = 0;
+        }
+    }
+}
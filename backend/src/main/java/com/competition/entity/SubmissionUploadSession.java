@@ -0,0 +1,71 @@
+package com.competition.entity;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(onlyExplicitlyIncluded = true)
+@Entity
+@Table(name = "submission_upload_sessions")
+public class SubmissionUploadSession {
+    public enum Status {
+        OPEN, COMPLETING, COMPLETED
+    }
+
+    @Id
+    @Column(length = 36)
+    @EqualsAndHashCode.Include
+    @ToString.Include
+    private String id;
+
+    @Column(name = "team_id", nullable = false)
+    @ToString.Include
+    private Long teamId;
+
+    @Column(name = "uploaded_by", nullable = false)
+    private Long uploadedBy;
+
+    @Column(name = "file_name", nullable = false, length = 255)
+    private String fileName;
+
+    @Column(length = 255)
+    private String remark;
+
+    @Column(name = "total_size", nullable = false)
+    private Long totalSize;
+
+    @Column(name = "chunk_size", nullable = false)
+    private Integer chunkSize;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    @ToString.Include
+    private Status status = Status.OPEN;
+
+    @Column(name = "submission_id")
+    private Long submissionId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (status == null) {
+            status = Status.OPEN;
+        }
+    }
+
+    @Transient
+    public int getChunkCount() {
+        return (int) ((totalSize + chunkSize - 1) / chunkSize);
+    }
+}
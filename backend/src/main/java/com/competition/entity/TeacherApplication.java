@@ -7,7 +7,10 @@ import lombok.ToString;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 
 @Data
@@ -57,6 +60,10 @@ public class TeacherApplication {
     @Column(name = "review_comment", length = 255)
     private String reviewComment;
 
+    // Lower-cased "realName username competitionName" for the admin search; see TeacherApplicationRepository.
+    @Column(name = "search_text", length = 512)
+    private String searchText;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "generated_team_id")
     @JsonIgnore
@@ -72,5 +79,27 @@ public class TeacherApplication {
         if (status == null) {
             status = Status.PENDING;
         }
+        if (searchText == null) {
+            searchText = buildSearchText(teacher, competition);
+        }
+    }
+
+    /**
+     * Same value as the SQL in TeacherApplicationRepository.refreshSearchTextByTeacherId: CONCAT_WS skips nulls.
+     */
+    public static String buildSearchText(User teacher, Competition competition) {
+        List<String> parts = new ArrayList<>(3);
+        if (teacher != null) {
+            if (teacher.getRealName() != null) {
+                parts.add(teacher.getRealName());
+            }
+            if (teacher.getUsername() != null) {
+                parts.add(teacher.getUsername());
+            }
+        }
+        if (competition != null && competition.getName() != null) {
+            parts.add(competition.getName());
+        }
+        return String.join(" ", parts).toLowerCase(Locale.ROOT);
     }
 }
@@ -41,6 +41,12 @@ public class TeamSubmission {
     @Column(name = "file_url", nullable = false, length = 512)
     private String fileUrl;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "file_size")
+    private Long fileSize;
+
     @Column(length = 255)
     private String remark;
 
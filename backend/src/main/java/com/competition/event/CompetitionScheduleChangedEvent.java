@@ -0,0 +1,17 @@
+package com.competition.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * A competition was created or its dates/status edited; the status scheduler re-plans its next wake-up.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CompetitionScheduleChangedEvent {
+    private final Long competitionId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+}
@@ -0,0 +1,52 @@
+package com.competition.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * An application or team changed status. Recorded in the append-only state_audit_events log once the
+ * publisher's transaction commits. teamId is the team the change belongs to, so a team's history also
+ * shows the applications made to it.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StateTransitionEvent {
+
+    public enum EntityType {
+        APPLICATION, TEAM
+    }
+
+    public enum Action {
+        APPLY, APPROVE, REJECT, REMOVE, CREATE, CLOSE, REOPEN, DISBAND
+    }
+
+    private final EntityType entityType;
+    private final Long entityId;
+    private final Long teamId;
+    private final Action action;
+    private final String fromStatus;
+    private final String toStatus;
+    private final Long actorId;
+    private final String reason;
+    // Millisecond precision, as stored.
+    private final LocalDateTime occurredAt;
+
+    public static StateTransitionEvent application(Long applicationId, Long teamId, Action action,
+                                                   Enum<?> from, Enum<?> to, Long actorId, String reason) {
+        return new StateTransitionEvent(EntityType.APPLICATION, applicationId, teamId, action,
+                from != null ? from.name() : null, to.name(), actorId, reason, now());
+    }
+
+    public static StateTransitionEvent team(Long teamId, Action action, Enum<?> from, Enum<?> to,
+                                            Long actorId, String reason) {
+        return new StateTransitionEvent(EntityType.TEAM, teamId, teamId, action,
+                from != null ? from.name() : null, to.name(), actorId, reason, now());
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+}
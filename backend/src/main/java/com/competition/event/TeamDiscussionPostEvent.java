@@ -0,0 +1,40 @@
+package com.competition.event;
+
+import com.competition.dto.TeamDiscussionPostResponse;
+import lombok.Data;
+
+/**
+ * Published by TeamDiscussionPostService; delivered to feed subscribers only after the transaction commits.
+ * For DELETED, replies of a deleted root post are gone as well.
+ */
+@Data
+public class TeamDiscussionPostEvent {
+    public enum Type {
+        CREATED, DELETED
+    }
+
+    private Type type;
+    private Long teamId;
+    private Long postId;
+    private Long parentPostId;
+    private TeamDiscussionPostResponse post; // CREATED only
+
+    public static TeamDiscussionPostEvent created(TeamDiscussionPostResponse post) {
+        TeamDiscussionPostEvent event = new TeamDiscussionPostEvent();
+        event.setType(Type.CREATED);
+        event.setTeamId(post.getTeamId());
+        event.setPostId(post.getId());
+        event.setParentPostId(post.getParentPostId());
+        event.setPost(post);
+        return event;
+    }
+
+    public static TeamDiscussionPostEvent deleted(Long teamId, Long postId, Long parentPostId) {
+        TeamDiscussionPostEvent event = new TeamDiscussionPostEvent();
+        event.setType(Type.DELETED);
+        event.setTeamId(teamId);
+        event.setPostId(postId);
+        event.setParentPostId(parentPostId);
+        return event;
+    }
+}
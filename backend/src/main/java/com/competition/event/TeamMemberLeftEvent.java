@@ -0,0 +1,16 @@
+package com.competition.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A user stopped being a member of a team (left or was removed). Open team discussion feeds of that
+ * user are closed once the publisher's transaction commits; disbanding a team is covered by
+ * {@link StateTransitionEvent} instead.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TeamMemberLeftEvent {
+    private final Long teamId;
+    private final Long userId;
+}
@@ -0,0 +1,21 @@
+package com.competition.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Team membership or awards of these users changed; their cached honors summary must be rebuilt.
+ * Handled synchronously inside the publisher's transaction.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserHonorsChangedEvent {
+    private final Collection<Long> userIds;
+
+    public static UserHonorsChangedEvent of(Long userId) {
+        return new UserHonorsChangedEvent(List.of(userId));
+    }
+}
@@ -0,0 +1,9 @@
+package com.competition.repository;
+
+import com.competition.entity.AppMetadata;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AppMetadataRepository extends JpaRepository<AppMetadata, String> {
+}
@@ -1,12 +1,17 @@
 package com.competition.repository;
 
 import com.competition.entity.Application;
+import com.competition.entity.User;
+import com.competition.repository.projection.ApplicationListRow;
+import com.competition.repository.projection.ApplicationReviewCandidate;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -76,4 +81,62 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
             @Param("studentId") Long studentId,
             @Param("competitionId") Long competitionId
     );
+
+    @Query("select a.id as id, a.team.id as teamId, a.student.id as studentId, a.status as status " +
+            "from Application a where a.id in :ids")
+    List<ApplicationReviewCandidate> findReviewCandidates(@Param("ids") Collection<Long> ids);
+
+    // One statement per review outcome of a bulk review; the status guard skips rows reviewed concurrently.
+    @Modifying
+    @Query("update Application a set a.status = :status, a.isActive = :active, a.reviewedAt = :reviewedAt, " +
+            "a.reviewedBy = :reviewer, a.reason = :reason " +
+            "where a.id in :ids and a.status = :expectedStatus")
+    int markReviewed(@Param("ids") Collection<Long> ids,
+                     @Param("status") Application.Status status,
+                     @Param("active") Boolean active,
+                     @Param("reviewedAt") LocalDateTime reviewedAt,
+                     @Param("reviewer") User reviewer,
+                     @Param("reason") String reason,
+                     @Param("expectedStatus") Application.Status expectedStatus);
+
+    // Application listings as ApplicationListRow, newest first. The left joins only read ids of nullable
+    // references; nothing is loaded lazily per row. Pass Pageable.unpaged() for the full list.
+    String LIST_ROW_SELECT = "select a.id as id, a.competition.id as competitionId, a.team.id as teamId, " +
+            "a.student.id as studentId, a.status as status, a.isActive as isActive, a.appliedAt as appliedAt, " +
+            "a.reviewedAt as reviewedAt, rb.id as reviewedBy, a.removedAt as removedAt, rm.id as removedBy, " +
+            "a.reason as reason " +
+            "from Application a left join a.reviewedBy rb left join a.removedBy rm ";
+    String STUDENT_FILTER = "where a.student.id = :studentId " +
+            "and (:competitionId is null or a.competition.id = :competitionId) ";
+    String TEACHER_FILTER = "where a.team.id in (select t.id from Team t where t.leader.id = :teacherId) " +
+            "and (:teamId is null or a.team.id = :teamId) " +
+            "and (:status is null or a.status = :status) ";
+    String AFTER_CURSOR = "and (a.appliedAt < :appliedAt or (a.appliedAt = :appliedAt and a.id < :id)) ";
+    String NEWEST_FIRST = "order by a.appliedAt desc, a.id desc";
+
+    @Query(LIST_ROW_SELECT + STUDENT_FILTER + NEWEST_FIRST)
+    List<ApplicationListRow> findStudentRowsFirstPage(@Param("studentId") Long studentId,
+                                                      @Param("competitionId") Long competitionId,
+                                                      Pageable pageable);
+
+    @Query(LIST_ROW_SELECT + STUDENT_FILTER + AFTER_CURSOR + NEWEST_FIRST)
+    List<ApplicationListRow> findStudentRowsPageAfter(@Param("studentId") Long studentId,
+                                                      @Param("competitionId") Long competitionId,
+                                                      @Param("appliedAt") LocalDateTime appliedAt,
+                                                      @Param("id") Long id,
+                                                      Pageable pageable);
+
+    @Query(LIST_ROW_SELECT + TEACHER_FILTER + NEWEST_FIRST)
+    List<ApplicationListRow> findTeacherRowsFirstPage(@Param("teacherId") Long teacherId,
+                                                      @Param("teamId") Long teamId,
+                                                      @Param("status") Application.Status status,
+                                                      Pageable pageable);
+
+    @Query(LIST_ROW_SELECT + TEACHER_FILTER + AFTER_CURSOR + NEWEST_FIRST)
+    List<ApplicationListRow> findTeacherRowsPageAfter(@Param("teacherId") Long teacherId,
+                                                      @Param("teamId") Long teamId,
+                                                      @Param("status") Application.Status status,
+                                                      @Param("appliedAt") LocalDateTime appliedAt,
+                                                      @Param("id") Long id,
+                                                      Pageable pageable);
 }
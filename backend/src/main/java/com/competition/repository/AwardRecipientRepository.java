@@ -1,10 +1,12 @@
 package com.competition.repository;
 
 import com.competition.entity.AwardRecipient;
+import com.competition.repository.projection.AwardRecipientCount;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,6 +15,10 @@ public interface AwardRecipientRepository extends JpaRepository<AwardRecipient,
     List<AwardRecipient> findByTeamAwardId(Long teamAwardId);
     long countByTeamAwardId(Long teamAwardId);
 
+    @Query("select ar.teamAwardId as teamAwardId, count(ar.id) as recipientCount from AwardRecipient ar " +
+            "where ar.teamAwardId in :teamAwardIds group by ar.teamAwardId")
+    List<AwardRecipientCount> countByTeamAwardIds(@Param("teamAwardIds") Collection<Long> teamAwardIds);
+
     @Query(
     "select ar, ta " +
     "from AwardRecipient ar, TeamAward ta " +
@@ -2,10 +2,15 @@ package com.competition.repository;
 
 import com.competition.entity.Competition;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -27,4 +32,32 @@ public interface CompetitionRepository extends JpaRepository<Competition, Long>
 
     @Query("SELECT c FROM Competition c JOIN c.competitionSkills cs WHERE cs.skill.id IN :skillIds")
     List<Competition> findBySkillIds(@Param("skillIds") List<Long> skillIds);
+
+    // Status transitions used by CompetitionStatusScheduler; status only ever moves forward.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Competition c SET c.status = :finished, c.updatedAt = :now " +
+            "WHERE c.status IN :active AND c.startDate IS NOT NULL AND c.endDate < :today")
+    int finishEnded(@Param("finished") Competition.CompetitionStatus finished,
+                    @Param("active") Collection<Competition.CompetitionStatus> active,
+                    @Param("today") LocalDate today,
+                    @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Competition c SET c.status = :ongoing, c.updatedAt = :now " +
+            "WHERE c.status = :upcoming AND c.startDate <= :today AND c.endDate >= :today")
+    int startDue(@Param("upcoming") Competition.CompetitionStatus upcoming,
+                 @Param("ongoing") Competition.CompetitionStatus ongoing,
+                 @Param("today") LocalDate today,
+                 @Param("now") LocalDateTime now);
+
+    // Future boundaries of competitions that can still transition; range reads on (status, date) indexes.
+    @Query("SELECT DISTINCT c.startDate FROM Competition c WHERE c.status = :upcoming AND c.startDate > :today")
+    List<LocalDate> findStartDatesAfter(@Param("upcoming") Competition.CompetitionStatus upcoming,
+                                        @Param("today") LocalDate today);
+
+    @Query("SELECT DISTINCT c.endDate FROM Competition c WHERE c.status IN :active AND c.endDate >= :today")
+    List<LocalDate> findEndDatesFrom(@Param("active") Collection<Competition.CompetitionStatus> active,
+                                     @Param("today") LocalDate today);
 }
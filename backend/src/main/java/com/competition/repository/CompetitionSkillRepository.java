@@ -1,12 +1,20 @@
 package com.competition.repository;
 
 import com.competition.entity.CompetitionSkill;
+import com.competition.repository.projection.CompetitionSkillRef;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CompetitionSkillRepository extends JpaRepository<CompetitionSkill, Long> {
     List<CompetitionSkill> findByCompetitionId(Long competitionId);
     void deleteByCompetitionId(Long competitionId);
+
+    @Query("select cs.competition.id as competitionId, cs.skill.id as skillId, cs.importance as importance " +
+            "from CompetitionSkill cs where cs.competition.id in :competitionIds")
+    List<CompetitionSkillRef> findSkillRefsByCompetitionIds(@Param("competitionIds") Collection<Long> competitionIds);
 }
\ No newline at end of file
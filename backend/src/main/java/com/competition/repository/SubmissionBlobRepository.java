@@ -0,0 +1,25 @@
+package com.competition.repository;
+
+import com.competition.entity.SubmissionBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SubmissionBlobRepository extends JpaRepository<SubmissionBlob, String> {
+
+    /**
+     * Insert the blob row with one reference, or add a reference if it already exists.
+     * Single statement so concurrent uploads of the same content cannot race.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO submission_blobs (content_hash, size_bytes, storage_path, ref_count, created_at) " +
+            "VALUES (:contentHash, :sizeBytes, :storagePath, 1, NOW()) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1",
+            nativeQuery = true)
+    int acquireReference(@Param("contentHash") String contentHash,
+                         @Param("sizeBytes") long sizeBytes,
+                         @Param("storagePath") String storagePath);
+}
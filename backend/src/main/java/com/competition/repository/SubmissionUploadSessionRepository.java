@@ -0,0 +1,70 @@
+package com.competition.repository;
+
+import com.competition.entity.SubmissionUploadSession;
+import com.competition.repository.projection.UploadSessionState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SubmissionUploadSessionRepository extends JpaRepository<SubmissionUploadSession, String> {
+
+    List<SubmissionUploadSession> findByExpiresAtBefore(LocalDateTime time);
+
+    // SELECT ... FOR UPDATE: serializes chunk writes starting against the session completing.
+    @Query(value = "SELECT status AS status, submission_id AS submissionId " +
+            "FROM submission_upload_sessions WHERE id = :id FOR UPDATE",
+            nativeQuery = true)
+    Optional<UploadSessionState> lockState(@Param("id") String id);
+
+    @Modifying
+    @Query(value = "UPDATE submission_upload_sessions SET status = 'COMPLETING' WHERE id = :id", nativeQuery = true)
+    int markCompleting(@Param("id") String id);
+
+    @Modifying
+    @Query(value = "UPDATE submission_upload_sessions SET status = 'COMPLETED', submission_id = :submissionId " +
+            "WHERE id = :id",
+            nativeQuery = true)
+    int markCompleted(@Param("id") String id, @Param("submissionId") Long submissionId);
+
+    /**
+     * Mark a chunk as being written by the write holding {@code writeToken}: the row exists with no
+     * received_at until the write finishes, so a re-sent chunk counts as missing while its bytes are
+     * being overwritten. A later write of the same chunk replaces the token.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO submission_upload_chunks (upload_id, chunk_index, received_at, write_token) " +
+            "VALUES (:uploadId, :chunkIndex, NULL, :writeToken) " +
+            "ON DUPLICATE KEY UPDATE received_at = NULL, write_token = :writeToken",
+            nativeQuery = true)
+    int markChunkWriting(@Param("uploadId") String uploadId, @Param("chunkIndex") int chunkIndex,
+                         @Param("writeToken") String writeToken);
+
+    /**
+     * Mark the chunk received, unless a newer write of it has started since; returns 0 in that case.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE submission_upload_chunks SET received_at = NOW(), write_token = NULL " +
+            "WHERE upload_id = :uploadId AND chunk_index = :chunkIndex AND write_token = :writeToken",
+            nativeQuery = true)
+    int markChunkReceived(@Param("uploadId") String uploadId, @Param("chunkIndex") int chunkIndex,
+                          @Param("writeToken") String writeToken);
+
+    @Query(value = "SELECT chunk_index FROM submission_upload_chunks " +
+            "WHERE upload_id = :uploadId AND received_at IS NOT NULL ORDER BY chunk_index",
+            nativeQuery = true)
+    List<Integer> findReceivedChunkIndexes(@Param("uploadId") String uploadId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM submission_upload_chunks WHERE upload_id = :uploadId", nativeQuery = true)
+    int deleteChunks(@Param("uploadId") String uploadId);
+}
@@ -1,13 +1,17 @@
 package com.competition.repository;
 
 import com.competition.entity.TeacherApplication;
+import com.competition.repository.projection.TeacherApplicationSearchRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -20,18 +24,54 @@ public interface TeacherApplicationRepository extends JpaRepository<TeacherAppli
 
     Page<TeacherApplication> findByTeacher_IdAndStatus(Long teacherId, TeacherApplication.Status status, Pageable pageable);
 
-    @Query("select ta from TeacherApplication ta " +
-            "join ta.teacher t " +
-            "join ta.competition c " +
+    // Offset pages; prefer the keyset variants below for deep pages. pattern as described there.
+    @Query(value = "select ta.id as id, t.id as teacherId, t.realName as teacherRealName, " +
+            "t.username as teacherUsername, t.accountNo as teacherAccountNo, c.id as competitionId, " +
+            "c.name as competitionName, ta.status as status, ta.appliedAt as appliedAt " +
+            "from TeacherApplication ta join ta.teacher t join ta.competition c " +
             "where (:status is null or ta.status = :status) " +
-            "and (" +
-            ":keyword is null or :keyword = '' " +
-            "or lower(t.realName) like lower(concat('%', :keyword, '%')) " +
-            "or lower(t.username) like lower(concat('%', :keyword, '%')) " +
-            "or lower(c.name) like lower(concat('%', :keyword, '%'))" +
-            ")")
-    Page<TeacherApplication> searchAdmin(
+            "and (:pattern is null or ta.searchText like :pattern)",
+            countQuery = "select count(ta) from TeacherApplication ta " +
+                    "where (:status is null or ta.status = :status) " +
+                    "and (:pattern is null or ta.searchText like :pattern)")
+    Page<TeacherApplicationSearchRow> searchAdmin(
             @Param("status") TeacherApplication.Status status,
-            @Param("keyword") String keyword,
+            @Param("pattern") String pattern,
             Pageable pageable);
+
+    // Keyset pages of the admin review queue, newest first. pattern is a lower-cased '%keyword%' or null;
+    // filtering on the denormalized search_text avoids LIKE over joined columns and lazy loads per row.
+    @Query("select ta.id as id, t.id as teacherId, t.realName as teacherRealName, t.username as teacherUsername, " +
+            "t.accountNo as teacherAccountNo, c.id as competitionId, c.name as competitionName, " +
+            "ta.status as status, ta.appliedAt as appliedAt " +
+            "from TeacherApplication ta join ta.teacher t join ta.competition c " +
+            "where (:status is null or ta.status = :status) " +
+            "and (:pattern is null or ta.searchText like :pattern) " +
+            "order by ta.appliedAt desc, ta.id desc")
+    List<TeacherApplicationSearchRow> searchAdminFirstPage(@Param("status") TeacherApplication.Status status,
+                                                           @Param("pattern") String pattern,
+                                                           Pageable pageable);
+
+    @Query("select ta.id as id, t.id as teacherId, t.realName as teacherRealName, t.username as teacherUsername, " +
+            "t.accountNo as teacherAccountNo, c.id as competitionId, c.name as competitionName, " +
+            "ta.status as status, ta.appliedAt as appliedAt " +
+            "from TeacherApplication ta join ta.teacher t join ta.competition c " +
+            "where (:status is null or ta.status = :status) " +
+            "and (:pattern is null or ta.searchText like :pattern) " +
+            "and (ta.appliedAt < :appliedAt or (ta.appliedAt = :appliedAt and ta.id < :id)) " +
+            "order by ta.appliedAt desc, ta.id desc")
+    List<TeacherApplicationSearchRow> searchAdminPageAfter(@Param("status") TeacherApplication.Status status,
+                                                           @Param("pattern") String pattern,
+                                                           @Param("appliedAt") LocalDateTime appliedAt,
+                                                           @Param("id") Long id,
+                                                           Pageable pageable);
+
+    // Keeps search_text in step with a teacher's renamed real name; same expression as the V7 backfill.
+    @Modifying
+    @Query(value = "UPDATE teacher_applications ta SET search_text = LOWER(CONCAT_WS(' ', " +
+            "(SELECT u.real_name FROM users u WHERE u.id = ta.teacher_id), " +
+            "(SELECT u.username FROM users u WHERE u.id = ta.teacher_id), " +
+            "(SELECT c.name FROM competitions c WHERE c.id = ta.competition_id))) " +
+            "WHERE ta.teacher_id = :teacherId", nativeQuery = true)
+    int refreshSearchTextByTeacherId(@Param("teacherId") Long teacherId);
 }
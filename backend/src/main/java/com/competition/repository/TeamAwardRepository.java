@@ -4,7 +4,12 @@ import com.competition.entity.TeamAward;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,4 +23,29 @@ public interface TeamAwardRepository extends JpaRepository<TeamAward, Long> {
     Page<TeamAward> findAllByOrderByPublishedAtDesc(Pageable pageable);
     Optional<TeamAward> findFirstByTeamIdAndIsActiveOrderByPublishedAtDesc(Long teamId, Byte isActive);
     Optional<TeamAward> findByIdAndIsActive(Long id, Byte isActive);
+
+    // Keyset pages for the admin award history, newest first; filters are optional (null = any).
+    @Query("select ta from TeamAward ta " +
+            "where (:competitionId is null or ta.competitionId = :competitionId) " +
+            "and (:teamId is null or ta.teamId = :teamId) " +
+            "order by ta.publishedAt desc, ta.id desc")
+    List<TeamAward> findRecordsFirstPage(@Param("competitionId") Long competitionId,
+                                         @Param("teamId") Long teamId,
+                                         Pageable pageable);
+
+    @Query("select ta from TeamAward ta " +
+            "where (:competitionId is null or ta.competitionId = :competitionId) " +
+            "and (:teamId is null or ta.teamId = :teamId) " +
+            "and (ta.publishedAt < :publishedAt or (ta.publishedAt = :publishedAt and ta.id < :id)) " +
+            "order by ta.publishedAt desc, ta.id desc")
+    List<TeamAward> findRecordsPageAfter(@Param("competitionId") Long competitionId,
+                                         @Param("teamId") Long teamId,
+                                         @Param("publishedAt") LocalDateTime publishedAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    List<TeamAward> findByCompetitionIdAndTeamIdIn(Long competitionId, Collection<Long> teamIds);
+
+    @Query("select ta.teamId from TeamAward ta where ta.competitionId = :competitionId and ta.teamId in :teamIds")
+    List<Long> findAwardedTeamIds(@Param("competitionId") Long competitionId, @Param("teamIds") Collection<Long> teamIds);
 }
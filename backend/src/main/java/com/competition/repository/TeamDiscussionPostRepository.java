@@ -1,8 +1,15 @@
 package com.competition.repository;
 
 import com.competition.entity.TeamDiscussionPost;
+import com.competition.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.List;
 
@@ -11,4 +18,54 @@ public interface TeamDiscussionPostRepository extends JpaRepository<TeamDiscussi
     Optional<TeamDiscussionPost> findByIdAndDeletedAtIsNull(Long id);
     List<TeamDiscussionPost> findByTeam_IdAndDeletedAtIsNullOrderByCreatedAtAsc(Long teamId);
     List<TeamDiscussionPost> findByParentPost_IdAndDeletedAtIsNull(Long parentPostId);
+
+    // Keyset pages over idx_team_discussion_posts_team_deleted_created (team_id, deleted_at, created_at, id).
+    @Query("select p from TeamDiscussionPost p where p.team.id = :teamId and p.deletedAt is null " +
+            "order by p.createdAt asc, p.id asc")
+    List<TeamDiscussionPost> findFirstPage(@Param("teamId") Long teamId, Pageable pageable);
+
+    @Query("select p from TeamDiscussionPost p where p.team.id = :teamId and p.deletedAt is null " +
+            "and (p.createdAt > :createdAt or (p.createdAt = :createdAt and p.id > :id)) " +
+            "order by p.createdAt asc, p.id asc")
+    List<TeamDiscussionPost> findPageAfter(@Param("teamId") Long teamId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    // The window just behind a cursor, newest first: rows at or before (createdAt, id) but not older than :from.
+    @Query("select p from TeamDiscussionPost p where p.team.id = :teamId and p.deletedAt is null " +
+            "and p.createdAt >= :from " +
+            "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id <= :id)) " +
+            "order by p.createdAt desc, p.id desc")
+    List<TeamDiscussionPost> findWindowUpTo(@Param("teamId") Long teamId,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    /**
+     * Soft-delete a post and, if it is a root post, all of its live replies in one UPDATE.
+     */
+    @Modifying
+    @Query("update TeamDiscussionPost p set p.deletedAt = :now, p.deletedBy = :deletedBy, p.updatedAt = :now " +
+            "where p.deletedAt is null and (p.id = :postId or p.parentPost.id = :postId)")
+    int softDeleteThread(@Param("postId") Long postId,
+                         @Param("deletedBy") User deletedBy,
+                         @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update TeamDiscussionPost p set p.deletedAt = :now, p.deletedBy = :deletedBy, p.updatedAt = :now " +
+            "where p.team.id = :teamId and p.deletedAt is null")
+    int softDeleteByTeamId(@Param("teamId") Long teamId,
+                           @Param("deletedBy") User deletedBy,
+                           @Param("now") LocalDateTime now);
+
+    // Replies first: parent_post_id references team_discussion_posts(id).
+    @Modifying
+    @Query("delete from TeamDiscussionPost p where p.team.id = :teamId and p.parentPost is not null")
+    int purgeRepliesByTeamId(@Param("teamId") Long teamId);
+
+    @Modifying
+    @Query("delete from TeamDiscussionPost p where p.team.id = :teamId")
+    int purgeByTeamId(@Param("teamId") Long teamId);
 }
@@ -1,10 +1,13 @@
 package com.competition.repository;
 
 import com.competition.entity.TeamMember;
+import com.competition.repository.projection.TeamMemberCount;
+import com.competition.repository.projection.TeamMemberRef;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +29,14 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
     long countByTeamId(Long teamId);
     long countByTeamIdAndLeftAtIsNull(Long teamId);
 
+    @Query("select tm.team.id as teamId, count(tm.id) as memberCount from TeamMember tm " +
+            "where tm.team.id in :teamIds group by tm.team.id")
+    List<TeamMemberCount> countByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+
     @Query("select count(distinct tm.team.id) from TeamMember tm where tm.user.id = :userId")
     long countDistinctTeamsByUserId(@Param("userId") Long userId);
+
+    @Query("select tm.team.id as teamId, tm.user.id as userId from TeamMember tm " +
+            "where tm.team.id in :teamIds and tm.leftAt is null order by tm.team.id, tm.id")
+    List<TeamMemberRef> findActiveMemberRefs(@Param("teamIds") Collection<Long> teamIds);
 }
@@ -1,10 +1,15 @@
 package com.competition.repository;
 
 import com.competition.entity.Team;
+import com.competition.repository.projection.TeamAwardCandidate;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -17,6 +22,14 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     Team findByCompetitionIdAndLeaderId(Long competitionId, Long leaderId);
     boolean existsByCompetitionIdAndLeaderId(Long competitionId, Long leaderId);
 
+    // SELECT ... FOR UPDATE: serializes membership changes that check team capacity.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Team t WHERE t.id = :id")
+    java.util.Optional<Team> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT t.id AS id, t.competition.id AS competitionId, t.status AS status FROM Team t WHERE t.id IN :ids")
+    List<TeamAwardCandidate> findAwardCandidates(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT t FROM Team t WHERE t.status = 'RECRUITING'")
     List<Team> findAvailableTeams();
 
@@ -2,9 +2,16 @@ package com.competition.repository;
 
 import com.competition.entity.TeamSkill;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 
 public interface TeamSkillRepository extends JpaRepository<TeamSkill, Long> {
     boolean existsByTeam_Id(Long teamId);
 
     java.util.List<TeamSkill> findByTeam_Id(Long teamId);
+
+    @Query("select ts from TeamSkill ts left join fetch ts.skill where ts.team.id in :teamIds order by ts.id")
+    java.util.List<TeamSkill> findWithSkillByTeamIds(@Param("teamIds") Collection<Long> teamIds);
 }
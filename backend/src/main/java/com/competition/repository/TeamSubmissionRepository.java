@@ -1,6 +1,8 @@
 package com.competition.repository;
 
 import com.competition.entity.TeamSubmission;
+import com.competition.repository.projection.SubmissionExportItem;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -16,6 +18,17 @@ public interface TeamSubmissionRepository extends JpaRepository<TeamSubmission,
 
     Optional<TeamSubmission> findFirstByTeam_IdAndIsCurrentTrue(Long teamId);
 
+    /**
+     * Keyset page of current submissions for a competition, ordered by id; pass the last id seen.
+     */
+    @Query("select s.id as id, t.id as teamId, t.name as teamName, s.fileName as fileName, s.fileUrl as fileUrl " +
+            "from TeamSubmission s join s.team t " +
+            "where s.competition.id = :competitionId and s.isCurrent = true and s.id > :afterId " +
+            "order by s.id")
+    List<SubmissionExportItem> findCurrentForExport(@Param("competitionId") Long competitionId,
+                                                    @Param("afterId") Long afterId,
+                                                    Pageable pageable);
+
     @Modifying
     @Query("update TeamSubmission s set s.isCurrent = false where s.team.id = :teamId and s.isCurrent = true")
     void clearCurrentByTeamId(@Param("teamId") Long teamId);
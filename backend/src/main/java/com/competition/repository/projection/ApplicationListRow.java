@@ -0,0 +1,34 @@
+package com.competition.repository.projection;
+
+import com.competition.entity.Application;
+
+import java.time.LocalDateTime;
+
+/**
+ * Exactly the ApplicationResponse fields; associations are read as foreign-key ids, never loaded.
+ */
+public interface ApplicationListRow {
+    Long getId();
+
+    Long getCompetitionId();
+
+    Long getTeamId();
+
+    Long getStudentId();
+
+    Application.Status getStatus();
+
+    Boolean getIsActive();
+
+    LocalDateTime getAppliedAt();
+
+    LocalDateTime getReviewedAt();
+
+    Long getReviewedBy();
+
+    LocalDateTime getRemovedAt();
+
+    Long getRemovedBy();
+
+    String getReason();
+}
@@ -0,0 +1,16 @@
+package com.competition.repository.projection;
+
+import com.competition.entity.Application;
+
+/**
+ * Just the application columns needed to validate a bulk review.
+ */
+public interface ApplicationReviewCandidate {
+    Long getId();
+
+    Long getTeamId();
+
+    Long getStudentId();
+
+    Application.Status getStatus();
+}
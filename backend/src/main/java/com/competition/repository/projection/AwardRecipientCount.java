@@ -0,0 +1,10 @@
+package com.competition.repository.projection;
+
+/**
+ * Recipient count of one award, from a GROUP BY team_award_id query.
+ */
+public interface AwardRecipientCount {
+    Long getTeamAwardId();
+
+    Long getRecipientCount();
+}
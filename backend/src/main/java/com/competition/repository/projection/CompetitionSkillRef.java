@@ -0,0 +1,12 @@
+package com.competition.repository.projection;
+
+/**
+ * Required skill of a competition with its importance, without loading the Skill entity.
+ */
+public interface CompetitionSkillRef {
+    Long getCompetitionId();
+
+    Long getSkillId();
+
+    Integer getImportance();
+}
@@ -0,0 +1,16 @@
+package com.competition.repository.projection;
+
+/**
+ * Flat row for archive export; avoids loading Team/Competition/User graphs per submission.
+ */
+public interface SubmissionExportItem {
+    Long getId();
+
+    Long getTeamId();
+
+    String getTeamName();
+
+    String getFileName();
+
+    String getFileUrl();
+}
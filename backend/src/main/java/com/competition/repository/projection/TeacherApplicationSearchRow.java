@@ -0,0 +1,28 @@
+package com.competition.repository.projection;
+
+import com.competition.entity.TeacherApplication;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the admin teacher-application search, with the teacher and competition columns joined in.
+ */
+public interface TeacherApplicationSearchRow {
+    Long getId();
+
+    Long getTeacherId();
+
+    String getTeacherRealName();
+
+    String getTeacherUsername();
+
+    String getTeacherAccountNo();
+
+    Long getCompetitionId();
+
+    String getCompetitionName();
+
+    TeacherApplication.Status getStatus();
+
+    LocalDateTime getAppliedAt();
+}
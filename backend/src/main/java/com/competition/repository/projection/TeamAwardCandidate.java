@@ -0,0 +1,14 @@
+package com.competition.repository.projection;
+
+import com.competition.entity.Team;
+
+/**
+ * Just the team columns needed to validate a bulk award publication.
+ */
+public interface TeamAwardCandidate {
+    Long getId();
+
+    Long getCompetitionId();
+
+    Team.TeamStatus getStatus();
+}
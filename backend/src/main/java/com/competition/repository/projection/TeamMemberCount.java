@@ -0,0 +1,10 @@
+package com.competition.repository.projection;
+
+/**
+ * Member rows of one team (left members included), from a GROUP BY team_id query.
+ */
+public interface TeamMemberCount {
+    Long getTeamId();
+
+    Long getMemberCount();
+}
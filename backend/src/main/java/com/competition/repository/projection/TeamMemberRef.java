@@ -0,0 +1,10 @@
+package com.competition.repository.projection;
+
+/**
+ * (team, user) pair of an active membership.
+ */
+public interface TeamMemberRef {
+    Long getTeamId();
+
+    Long getUserId();
+}
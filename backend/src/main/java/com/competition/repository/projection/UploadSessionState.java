@@ -0,0 +1,13 @@
+package com.competition.repository.projection;
+
+import com.competition.entity.SubmissionUploadSession;
+
+/**
+ * Status columns of one upload session, read straight from the locked row rather than from an entity
+ * the persistence context may already hold.
+ */
+public interface UploadSessionState {
+    SubmissionUploadSession.Status getStatus();
+
+    Long getSubmissionId();
+}
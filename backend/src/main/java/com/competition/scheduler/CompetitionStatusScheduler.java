@@ -1,97 +1,177 @@
 package com.competition.scheduler;
 
 import com.competition.entity.Competition;
+import com.competition.event.CompetitionScheduleChangedEvent;
 import com.competition.repository.CompetitionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ScheduledFuture;
 
+/**
+ * Moves competitions UPCOMING -> ONGOING on start_date and -> FINISHED the day after end_date.
+ * Keeps an ordered set of future boundary dates and arms a single one-shot task for the earliest one,
+ * so nothing runs between transitions. Boundaries are seeded once at startup from the (status, date)
+ * indexes and kept current through CompetitionScheduleChangedEvent. Transitions are applied with two
+ * bulk UPDATEs; status only moves forward, so a manual status edit can be overridden by dates.
+ * Writes run under the "competition-status" scheduler lease. A node whose write fails retries with a
+ * doubling delay, and an hourly sweep on every node catches transitions that no node managed to apply
+ * (the lease holder died, or every attempt failed) without waiting for the next boundary.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class CompetitionStatusScheduler {
 
-    private static final long FIXED_DELAY_MS = 60000;
+    private static final String LOCK_NAME = "competition-status";
+    private static final long SWEEP_INTERVAL_MS = 3600000;
+    private static final Duration FIRST_RETRY_DELAY = Duration.ofMinutes(1);
+    private static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(30);
+    private static final List<Competition.CompetitionStatus> ACTIVE =
+            List.of(Competition.CompetitionStatus.UPCOMING, Competition.CompetitionStatus.ONGOING);
 
     private final CompetitionRepository competitionRepository;
+    private final TaskScheduler taskScheduler;
+    private final SchedulerLeaseManager schedulerLeaseManager;
 
-    // Auto sync may override manual status changes if time fields disagree.
-    @Scheduled(fixedDelay = FIXED_DELAY_MS)
-    @Transactional
-    public void syncCompetitionStatus() {
-        List<Competition> competitions = competitionRepository.findAll();
-        if (competitions.isEmpty()) {
-            return;
-        }
+    // A date here means some competition changes status at 00:00 of that day.
+    private final TreeSet<LocalDate> boundaries = new TreeSet<>();
+    private ScheduledFuture<?> nextRun;
+    private LocalDate nextRunDate;
+    private ScheduledFuture<?> retry;
+    private Duration retryDelay = FIRST_RETRY_DELAY;
 
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
         LocalDate today = LocalDate.now();
-        List<Competition> changed = new ArrayList<>();
+        // Catch up on boundaries that passed while the application was down.
+        tryApplyTransitions(today);
+        boundaries.addAll(competitionRepository.findStartDatesAfter(Competition.CompetitionStatus.UPCOMING, today));
+        for (LocalDate endDate : competitionRepository.findEndDatesFrom(ACTIVE, today)) {
+            boundaries.add(endDate.plusDays(1));
+        }
+        reschedule(today);
+    }
 
-        for (Competition competition : competitions) {
-            Competition.CompetitionStatus current = competition.getStatus();
-            if (current == Competition.CompetitionStatus.FINISHED) {
-                continue;
-            }
-            Competition.CompetitionStatus dateStatus = deriveStatus(
-                    today,
-                    competition.getStartDate(),
-                    competition.getEndDate()
-            );
-            if (dateStatus == null) {
-                continue;
-            }
-            if (shouldAdvance(current, dateStatus)) {
-                competition.setStatus(dateStatus);
-                changed.add(competition);
-            }
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onScheduleChanged(CompetitionScheduleChangedEvent event) {
+        LocalDate today = LocalDate.now();
+        boolean due = false;
+        if (event.getStartDate() != null) {
+            due |= !addBoundary(event.getStartDate(), today);
+        }
+        if (event.getEndDate() != null) {
+            due |= !addBoundary(event.getEndDate().plusDays(1), today);
+        }
+        if (due) {
+            // Not inline: after commit the publisher's transaction is still bound to this thread,
+            // so writes issued here would never be committed.
+            taskScheduler.schedule(this::runNow, Instant.now());
         }
+        reschedule(today);
+    }
+
+    @Scheduled(fixedDelay = SWEEP_INTERVAL_MS, initialDelay = SWEEP_INTERVAL_MS)
+    public void sweep() {
+        runNow();
+    }
 
-        if (!changed.isEmpty()) {
-            competitionRepository.saveAll(changed);
-            log.info("Competition status sync updated {} competitions.", changed.size());
+    private synchronized void runNow() {
+        LocalDate today = LocalDate.now();
+        try {
+            tryApplyTransitions(today);
+        } finally {
+            reschedule(today);
         }
     }
 
-    private Competition.CompetitionStatus deriveStatus(
-            LocalDate today,
-            LocalDate startDate,
-            LocalDate endDate) {
-        if (startDate == null || endDate == null) {
-            return null;
+    private synchronized void retryNow() {
+        // This run is the pending retry; clear it so that a failure here can arm the next one.
+        retry = null;
+        runNow();
+    }
+
+    private synchronized void fire() {
+        LocalDate today = LocalDate.now();
+        // The task may wake a few milliseconds before midnight; never evaluate an earlier day than planned.
+        if (nextRunDate != null && today.isBefore(nextRunDate)) {
+            today = nextRunDate;
         }
-        if (today.isBefore(startDate)) {
-            return Competition.CompetitionStatus.UPCOMING;
+        try {
+            tryApplyTransitions(today);
+        } finally {
+            reschedule(today);
         }
-        if (today.isAfter(endDate)) {
-            return Competition.CompetitionStatus.FINISHED;
+    }
+
+    // Boundaries are dropped by reschedule() either way; a failed write is picked up again by the retry or the sweep.
+    private void tryApplyTransitions(LocalDate today) {
+        try {
+            applyTransitions(today);
+            retryDelay = FIRST_RETRY_DELAY;
+        } catch (RuntimeException ex) {
+            log.warn("Competition status sync failed, retrying in {}.", retryDelay, ex);
+            if (retry == null || retry.isDone()) {
+                retry = taskScheduler.schedule(this::retryNow, Instant.now().plus(retryDelay));
+                Duration doubled = retryDelay.multipliedBy(2);
+                retryDelay = doubled.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : doubled;
+            }
         }
-        return Competition.CompetitionStatus.ONGOING;
     }
 
-    private boolean shouldAdvance(Competition.CompetitionStatus current,
-                                  Competition.CompetitionStatus target) {
-        if (current == null || target == null) {
+    // Every node keeps its own boundary set and wakes up; the lease lets only one of them write.
+    private void applyTransitions(LocalDate today) {
+        schedulerLeaseManager.runWithLease(LOCK_NAME, lease -> {
+            LocalDateTime now = LocalDateTime.now();
+            // Both updates commit together, and only while this node still holds the lease.
+            int[] changed = lease.fenced(() -> {
+                int finished = competitionRepository.finishEnded(
+                        Competition.CompetitionStatus.FINISHED, ACTIVE, today, now);
+                int started = competitionRepository.startDue(
+                        Competition.CompetitionStatus.UPCOMING, Competition.CompetitionStatus.ONGOING, today, now);
+                return new int[]{finished, started};
+            });
+            if (changed[0] > 0 || changed[1] > 0) {
+                log.info("Competition status sync: {} started, {} finished.", changed[1], changed[0]);
+            }
+        });
+    }
+
+    private boolean addBoundary(LocalDate date, LocalDate today) {
+        if (!date.isAfter(today)) {
             return false;
         }
-        return statusRank(target) > statusRank(current);
+        boundaries.add(date);
+        return true;
     }
 
-    private int statusRank(Competition.CompetitionStatus status) {
-        if (status == Competition.CompetitionStatus.UPCOMING) {
-            return 1;
-        }
-        if (status == Competition.CompetitionStatus.ONGOING) {
-            return 2;
+    private void reschedule(LocalDate today) {
+        boundaries.headSet(today, true).clear();
+        LocalDate next = boundaries.isEmpty() ? null : boundaries.first();
+        if (next != null && next.equals(nextRunDate) && nextRun != null && !nextRun.isDone()) {
+            return;
         }
-        if (status == Competition.CompetitionStatus.FINISHED) {
-            return 3;
+        if (nextRun != null) {
+            nextRun.cancel(false);
         }
-        return 0;
+        nextRunDate = next;
+        nextRun = next == null
+                ? null
+                : taskScheduler.schedule(this::fire, next.atStartOfDay(ZoneId.systemDefault()).toInstant());
+        log.debug("Next competition status transition at {}", next);
     }
 }
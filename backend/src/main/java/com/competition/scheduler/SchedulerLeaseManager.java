@@ -0,0 +1,171 @@
+package com.competition.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Per-job leases on scheduler_locks so that, with several backend nodes, a scheduled job runs on one node at a time.
+ * A lease is taken only when it is free or expired; every takeover increments the row's fencing token.
+ * While the job runs a heartbeat extends the lease every ttl/3. All time comparisons use the database clock,
+ * so node clock skew does not matter. Jobs make their writes through {@link Lease#fenced(Supplier)}: it locks the
+ * lease row, checks owner and token, and runs the writes in that same transaction. A takeover has to update the
+ * locked row, so it waits for those writes to commit, and a node that stalled past its lease gets an exception
+ * instead of racing the new holder.
+ */
+@Component
+@Slf4j
+public class SchedulerLeaseManager {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+    private final long ttlMillis;
+    // Own thread: the Spring task scheduler may be busy running the very job whose lease needs renewing.
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scheduler-lease-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SchedulerLeaseManager(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.scheduler.node-id:}") String nodeId,
+                                 @Value("${app.scheduler.lease-ttl-seconds:30}") long ttlSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.nodeId = nodeId == null || nodeId.isBlank()
+                ? ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8)
+                : nodeId;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * Run the job if this node can take the named lease; otherwise skip it. Returns whether the job ran.
+     */
+    public boolean runWithLease(String lockName, Consumer<Lease> job) {
+        Lease lease = tryAcquire(lockName);
+        if (lease == null) {
+            log.debug("Scheduler lease '{}' held by another node, skipping run.", lockName);
+            return false;
+        }
+        long period = Math.max(ttlMillis / 3, 1000);
+        ScheduledFuture<?> renewal = heartbeat.scheduleAtFixedRate(lease::renew, period, period, TimeUnit.MILLISECONDS);
+        try {
+            job.accept(lease);
+            return true;
+        } finally {
+            renewal.cancel(false);
+            lease.release();
+        }
+    }
+
+    public boolean runWithLease(String lockName, Runnable job) {
+        return runWithLease(lockName, lease -> job.run());
+    }
+
+    private Lease tryAcquire(String lockName) {
+        jdbcTemplate.update("INSERT IGNORE INTO scheduler_locks (lock_name, owner_id, fencing_token, lease_until, updated_at) " +
+                "VALUES (?, '', 0, NOW(3), NOW(3))", lockName);
+        int taken = jdbcTemplate.update("UPDATE scheduler_locks " +
+                        "SET owner_id = ?, fencing_token = fencing_token + 1, " +
+                        "lease_until = TIMESTAMPADD(MICROSECOND, ?, NOW(3)), updated_at = NOW(3) " +
+                        "WHERE lock_name = ? AND lease_until <= NOW(3)",
+                nodeId, ttlMillis * 1000, lockName);
+        if (taken == 0) {
+            return null;
+        }
+        List<Long> tokens = jdbcTemplate.queryForList(
+                "SELECT fencing_token FROM scheduler_locks WHERE lock_name = ? AND owner_id = ?",
+                Long.class, lockName, nodeId);
+        return tokens.isEmpty() ? null : new Lease(lockName, tokens.get(0));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+    }
+
+    public final class Lease {
+        private final String lockName;
+        private final long fencingToken;
+        private volatile boolean lost;
+
+        private Lease(String lockName, long fencingToken) {
+            this.lockName = lockName;
+            this.fencingToken = fencingToken;
+        }
+
+        public long getFencingToken() {
+            return fencingToken;
+        }
+
+        /**
+         * Run the writes in one transaction that first locks the lease row and checks this node still holds it
+         * with this token. Throws, without running them, if the lease expired or was taken over.
+         */
+        public <T> T fenced(Supplier<T> writes) {
+            return transactionTemplate.execute(status -> {
+                List<Long> held = lost ? List.of() : jdbcTemplate.queryForList(
+                        "SELECT fencing_token FROM scheduler_locks " +
+                                "WHERE lock_name = ? AND owner_id = ? AND fencing_token = ? AND lease_until > NOW(3) " +
+                                "FOR UPDATE",
+                        Long.class, lockName, nodeId, fencingToken);
+                if (held.isEmpty()) {
+                    lost = true;
+                    throw new IllegalStateException("scheduler lease lost: " + lockName + " token " + fencingToken);
+                }
+                return writes.get();
+            });
+        }
+
+        public void fenced(Runnable writes) {
+            fenced(() -> {
+                writes.run();
+                return null;
+            });
+        }
+
+        private void renew() {
+            if (lost) {
+                return;
+            }
+            try {
+                int renewed = jdbcTemplate.update("UPDATE scheduler_locks " +
+                                "SET lease_until = TIMESTAMPADD(MICROSECOND, ?, NOW(3)), updated_at = NOW(3) " +
+                                "WHERE lock_name = ? AND owner_id = ? AND fencing_token = ? AND lease_until > NOW(3)",
+                        ttlMillis * 1000, lockName, nodeId, fencingToken);
+                if (renewed == 0) {
+                    lost = true;
+                    log.warn("Scheduler lease '{}' (token {}) lost before renewal.", lockName, fencingToken);
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Scheduler lease '{}' renewal failed.", lockName, ex);
+            }
+        }
+
+        private void release() {
+            try {
+                jdbcTemplate.update("UPDATE scheduler_locks SET lease_until = NOW(3), updated_at = NOW(3) " +
+                        "WHERE lock_name = ? AND owner_id = ? AND fencing_token = ?", lockName, nodeId, fencingToken);
+            } catch (RuntimeException ex) {
+                // Not fatal: the lease simply expires after its TTL.
+                log.warn("Scheduler lease '{}' release failed.", lockName, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.competition.scheduler;
+
+import com.competition.entity.SubmissionUploadSession;
+import com.competition.repository.SubmissionUploadSessionRepository;
+import com.competition.service.SubmissionBlobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drops expired chunked upload sessions together with their staging files.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SubmissionUploadCleanupScheduler {
+
+    private static final long FIXED_DELAY_MS = 3600000;
+    private static final String LOCK_NAME = "submission-upload-cleanup";
+
+    private final SubmissionUploadSessionRepository submissionUploadSessionRepository;
+    private final SubmissionBlobService submissionBlobService;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+
+    @Scheduled(fixedDelay = FIXED_DELAY_MS)
+    public void purgeExpiredUploads() {
+        schedulerLeaseManager.runWithLease(LOCK_NAME, lease -> lease.fenced(this::purge));
+    }
+
+    private void purge() {
+        List<SubmissionUploadSession> expired =
+                submissionUploadSessionRepository.findByExpiresAtBefore(LocalDateTime.now());
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        for (SubmissionUploadSession session : expired) {
+            submissionUploadSessionRepository.deleteChunks(session.getId());
+            submissionUploadSessionRepository.delete(session);
+            try {
+                Files.deleteIfExists(submissionBlobService.stagingPath(session.getId()));
+            } catch (IOException ex) {
+                log.warn("staging file cleanup failed, uploadId={}", session.getId(), ex);
+            }
+        }
+        log.info("Submission upload cleanup removed {} expired sessions.", expired.size());
+    }
+}
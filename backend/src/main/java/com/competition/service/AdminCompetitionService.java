@@ -3,10 +3,12 @@ package com.competition.service;
 import com.competition.dto.CompetitionAdminUpdateRequest;
 import com.competition.entity.Competition;
 import com.competition.entity.User;
+import com.competition.event.CompetitionScheduleChangedEvent;
 import com.competition.exception.ApiException;
 import com.competition.repository.CompetitionRepository;
 import com.competition.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +22,7 @@ public class AdminCompetitionService {
 
     private final CompetitionRepository competitionRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Competition updateCompetition(Long adminUserId, Long competitionId, CompetitionAdminUpdateRequest request) {
         if (request == null) {
@@ -64,6 +67,9 @@ public class AdminCompetitionService {
             competition.setDescription(request.getDescription());
         }
 
-        return competitionRepository.save(competition);
+        Competition saved = competitionRepository.save(competition);
+        eventPublisher.publishEvent(new CompetitionScheduleChangedEvent(
+                saved.getId(), saved.getStartDate(), saved.getEndDate()));
+        return saved;
     }
 }
@@ -0,0 +1,234 @@
+package com.competition.service;
+
+import com.competition.dto.ApplicationAdmissionResponse;
+import com.competition.dto.ApplicationCreateRequest;
+import com.competition.dto.ApplicationResponse;
+import com.competition.exception.ApiException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission queue for registration rushes (app.applications.admission.enabled).
+ * Competitions are hashed onto a fixed set of partitions, each a bounded queue drained by one worker, so
+ * applications to the same competition are created one at a time per node instead of racing on
+ * uk_applications_student_competition_active, and at most `workers` application transactions run at once.
+ * Callers get a ticket and poll it. Tickets live in memory only: a restart drops queued work, and polling
+ * must reach the node that issued the ticket. A poll that gets 404 therefore falls back to
+ * GET /users/me/applications?competitionId= (frontend api/teamApplications.ts), and polling is capped.
+ * With the mode off, tickets are served inline and come back finished.
+ */
+@Service
+@Slf4j
+public class ApplicationAdmissionService implements MeterBinder {
+
+    public enum State {
+        QUEUED, PROCESSING, ADMITTED, REJECTED
+    }
+
+    private static final long POLL_TIMEOUT_MS = 500;
+
+    private final ApplicationService applicationService;
+    private final boolean enabled;
+    private final Duration ticketTtl;
+    private final Partition[] partitions;
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+    // userId:competitionId -> unfinished ticket, so repeated clicks do not queue duplicates.
+    private final Map<String, Ticket> inFlight = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+
+    public ApplicationAdmissionService(ApplicationService applicationService,
+                                       @Value("${app.applications.admission.enabled:false}") boolean enabled,
+                                       @Value("${app.applications.admission.workers:4}") int workers,
+                                       @Value("${app.applications.admission.queue-capacity:2000}") int queueCapacity,
+                                       @Value("${app.applications.admission.ticket-ttl-seconds:600}") long ticketTtlSeconds) {
+        this.applicationService = applicationService;
+        this.enabled = enabled;
+        this.ticketTtl = Duration.ofSeconds(ticketTtlSeconds);
+        this.partitions = new Partition[enabled ? Math.max(1, workers) : 0];
+        for (int i = 0; i < partitions.length; i++) {
+            Partition partition = new Partition(queueCapacity);
+            Thread worker = new Thread(() -> drain(partition), "application-admission-" + i);
+            worker.setDaemon(true);
+            partition.worker = worker;
+            partitions[i] = partition;
+            worker.start();
+        }
+        if (enabled) {
+            log.info("application admission queue on, partitions={}, capacity={}", partitions.length, queueCapacity);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (int i = 0; i < partitions.length; i++) {
+            Gauge.builder("app.applications.admission.queued", partitions[i].queue, BlockingQueue::size)
+                    .description("Tickets waiting in an admission partition")
+                    .tag("partition", String.valueOf(i))
+                    .register(registry);
+        }
+        Gauge.builder("app.applications.admission.tickets", tickets, Map::size)
+                .description("Tickets kept for polling, queued or finished")
+                .register(registry);
+    }
+
+    public ApplicationAdmissionResponse submit(Long currentUserId, ApplicationCreateRequest req) {
+        if (req == null || req.getCompetitionId() == null || req.getTeamId() == null) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "competitionId and teamId required");
+        }
+        if (!enabled) {
+            Ticket ticket = new Ticket(currentUserId, req, null);
+            ticket.application = applicationService.createApplication(currentUserId, req);
+            ticket.state = State.ADMITTED;
+            return toResponse(ticket);
+        }
+
+        String key = currentUserId + ":" + req.getCompetitionId();
+        Partition partition = partitions[Math.floorMod(req.getCompetitionId().hashCode(), partitions.length)];
+        Ticket ticket = new Ticket(currentUserId, req, key);
+        ticket.partition = partition;
+        Ticket existing = inFlight.putIfAbsent(key, ticket);
+        if (existing != null) {
+            return toResponse(existing);
+        }
+        // Sequence numbers follow queue order, which is what makes position a simple difference.
+        synchronized (partition) {
+            ticket.sequence = partition.enqueued + 1;
+            if (!partition.queue.offer(ticket)) {
+                inFlight.remove(key, ticket);
+                throw new ApiException(HttpStatus.SERVICE_UNAVAILABLE, "admission queue full, retry later");
+            }
+            partition.enqueued = ticket.sequence;
+        }
+        tickets.put(ticket.id, ticket);
+        return toResponse(ticket);
+    }
+
+    public ApplicationAdmissionResponse getTicket(Long currentUserId, String ticketId) {
+        Ticket ticket = ticketId == null ? null : tickets.get(ticketId);
+        if (ticket == null || !ticket.userId.equals(currentUserId)) {
+            throw new ApiException(HttpStatus.NOT_FOUND, "admission ticket not found");
+        }
+        return toResponse(ticket);
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictFinishedTickets() {
+        Instant cutoff = Instant.now().minus(ticketTtl);
+        tickets.values().removeIf(ticket -> ticket.finishedAt != null && ticket.finishedAt.isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        int dropped = 0;
+        for (Partition partition : partitions) {
+            try {
+                partition.worker.join(POLL_TIMEOUT_MS * 4);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            dropped += partition.queue.size();
+        }
+        if (dropped > 0) {
+            log.warn("application admission queue stopped with {} tickets still queued", dropped);
+        }
+    }
+
+    private void drain(Partition partition) {
+        while (running) {
+            Ticket ticket;
+            try {
+                ticket = partition.queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                return;
+            }
+            if (ticket == null) {
+                continue;
+            }
+            partition.started = ticket.sequence;
+            ticket.state = State.PROCESSING;
+            try {
+                ticket.application = applicationService.createApplication(ticket.userId, ticket.request);
+                ticket.state = State.ADMITTED;
+            } catch (ApiException ex) {
+                ticket.errorStatus = ex.getStatus().value();
+                ticket.error = ex.getMessage();
+                ticket.state = State.REJECTED;
+            } catch (Throwable ex) {
+                // Anything escaping would kill this partition's only worker and strand its queue.
+                log.error("admission failed, userId={}, competitionId={}",
+                        ticket.userId, ticket.request.getCompetitionId(), ex);
+                ticket.errorStatus = HttpStatus.INTERNAL_SERVER_ERROR.value();
+                ticket.error = "application failed";
+                ticket.state = State.REJECTED;
+            } finally {
+                ticket.finishedAt = Instant.now();
+                inFlight.remove(ticket.key, ticket);
+            }
+        }
+    }
+
+    private ApplicationAdmissionResponse toResponse(Ticket ticket) {
+        // Read state first: the worker writes it last, after the result fields.
+        State state = ticket.state;
+        ApplicationAdmissionResponse response = new ApplicationAdmissionResponse();
+        response.setTicketId(ticket.id);
+        response.setState(state);
+        response.setPosition(state == State.QUEUED && ticket.partition != null
+                ? Math.max(1, ticket.sequence - ticket.partition.started) : 0L);
+        if (state == State.ADMITTED) {
+            response.setApplication(ticket.application);
+        } else if (state == State.REJECTED) {
+            response.setErrorStatus(ticket.errorStatus);
+            response.setError(ticket.error);
+        }
+        return response;
+    }
+
+    private static final class Partition {
+        private final BlockingQueue<Ticket> queue;
+        private long enqueued;
+        private volatile long started;
+        private Thread worker;
+
+        private Partition(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    private static final class Ticket {
+        private final String id = UUID.randomUUID().toString();
+        private final Long userId;
+        private final ApplicationCreateRequest request;
+        private final String key;
+        private volatile Partition partition;
+        private volatile long sequence;
+        private volatile State state = State.QUEUED;
+        private volatile ApplicationResponse application;
+        private volatile Integer errorStatus;
+        private volatile String error;
+        private volatile Instant finishedAt;
+
+        private Ticket(Long userId, ApplicationCreateRequest request, String key) {
+            this.userId = userId;
+            this.request = request;
+            this.key = key;
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.competition.service;
 
+import com.competition.dto.ApplicationBulkReviewItem;
+import com.competition.dto.ApplicationBulkReviewRequest;
+import com.competition.dto.ApplicationBulkReviewResponse;
+import com.competition.dto.ApplicationBulkReviewResult;
 import com.competition.dto.ApplicationCreateRequest;
 import com.competition.dto.ApplicationResponse;
 import com.competition.dto.ApplicationReviewRequest;
+import com.competition.dto.CursorPageResponse;
 import com.competition.entity.Application;
 import com.competition.entity.Competition;
 import com.competition.entity.Team;
@@ -14,15 +19,30 @@ import com.competition.repository.CompetitionRepository;
 import com.competition.repository.TeamMemberRepository;
 import com.competition.repository.TeamRepository;
 import com.competition.repository.UserRepository;
+import com.competition.repository.projection.ApplicationListRow;
+import com.competition.repository.projection.ApplicationReviewCandidate;
+import com.competition.repository.projection.TeamMemberRef;
+import com.competition.event.StateTransitionEvent;
+import com.competition.event.UserHonorsChangedEvent;
+import com.competition.utils.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -31,11 +51,14 @@ import java.util.stream.Collectors;
 @Transactional
 public class ApplicationService {
 
+    private static final int MAX_BULK_REVIEW_ITEMS = 200;
+
     private final ApplicationRepository applicationRepository;
     private final UserRepository userRepository;
     private final CompetitionRepository competitionRepository;
     private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ApplicationResponse createApplication(Long currentUserId, ApplicationCreateRequest req) {
         if (req == null || req.getCompetitionId() == null || req.getTeamId() == null) {
@@ -84,6 +107,8 @@ public class ApplicationService {
                         competition.getId()
                 )
                 .orElseGet(Application::new);
+        // A recycled row keeps its id; its previous life stays visible in the audit log.
+        Application.Status previousStatus = application.getId() != null ? application.getStatus() : null;
         application.setStudent(student);
         application.setCompetition(competition);
         application.setTeam(team);
@@ -102,6 +127,8 @@ public class ApplicationService {
         } catch (DataIntegrityViolationException ex) {
             throw new ApiException(HttpStatus.CONFLICT, "active application exists");
         }
+        eventPublisher.publishEvent(StateTransitionEvent.application(saved.getId(), team.getId(),
+                StateTransitionEvent.Action.APPLY, previousStatus, Application.Status.PENDING, student.getId(), null));
         return toResponse(saved);
     }
 
@@ -113,19 +140,32 @@ public class ApplicationService {
             throw new ApiException(HttpStatus.FORBIDDEN, "only STUDENT can view applications");
         }
 
-        List<Application> applications;
-        if (competitionIdOptional != null) {
-            applications = applicationRepository
-                    .findByStudent_IdAndCompetition_IdOrderByAppliedAtDesc(student.getId(), competitionIdOptional);
-        } else {
-            applications = applicationRepository.findByStudent_IdOrderByAppliedAtDesc(student.getId());
-        }
-
-        return applications.stream()
+        return applicationRepository.findStudentRowsFirstPage(student.getId(), competitionIdOptional, Pageable.unpaged())
+                .stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ApplicationResponse> listMyApplicationsPage(Long currentUserId, Long competitionIdOptional,
+                                                                          String cursorValue, int size) {
+        User student = userRepository.findById(currentUserId)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "user not found"));
+        if (student.getRole() != User.Role.STUDENT) {
+            throw new ApiException(HttpStatus.FORBIDDEN, "only STUDENT can view applications");
+        }
+
+        int limit = pageLimit(size);
+        KeysetCursor cursor = KeysetCursor.decode(cursorValue);
+        // One extra row tells whether another page exists.
+        PageRequest pageRequest = PageRequest.of(0, limit + 1);
+        List<ApplicationListRow> rows = cursor == null
+                ? applicationRepository.findStudentRowsFirstPage(student.getId(), competitionIdOptional, pageRequest)
+                : applicationRepository.findStudentRowsPageAfter(student.getId(), competitionIdOptional,
+                cursor.getCreatedAt(), cursor.getId(), pageRequest);
+        return toPage(rows, limit, cursor);
+    }
+
     @Transactional(readOnly = true)
     public List<ApplicationResponse> listForTeacher(Long currentUserId, Long teamIdOptional, String statusOptional) {
         User teacher = userRepository.findById(currentUserId)
@@ -134,34 +174,36 @@ public class ApplicationService {
             throw new ApiException(HttpStatus.FORBIDDEN, "only TEACHER can view applications");
         }
 
-        List<Team> teams = teamRepository.findByLeaderId(teacher.getId());
-        List<Long> teamIds = teams.stream().map(Team::getId).collect(Collectors.toList());
-        if (teamIds.isEmpty()) {
-            return List.of();
-        }
-
-        if (teamIdOptional != null && !teamIds.contains(teamIdOptional)) {
-            throw new ApiException(HttpStatus.FORBIDDEN, "not team leader");
-        }
-
-        List<Long> targetTeamIds = teamIdOptional != null ? List.of(teamIdOptional) : teamIds;
-        if (statusOptional != null && !statusOptional.isBlank()) {
-            Application.Status status;
-            try {
-                status = Application.Status.valueOf(statusOptional);
-            } catch (IllegalArgumentException ex) {
-                throw new ApiException(HttpStatus.BAD_REQUEST, "invalid status");
-            }
-            return applicationRepository.findByTeamIdInAndStatus(targetTeamIds, status).stream()
-                    .map(this::toResponse)
-                    .collect(Collectors.toList());
-        }
-
-        return applicationRepository.findByTeamIdIn(targetTeamIds).stream()
+        checkTeamLeader(teacher.getId(), teamIdOptional);
+        return applicationRepository.findTeacherRowsFirstPage(teacher.getId(), teamIdOptional,
+                        parseStatus(statusOptional), Pageable.unpaged())
+                .stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ApplicationResponse> listForTeacherPage(Long currentUserId, Long teamIdOptional,
+                                                                      String statusOptional, String cursorValue,
+                                                                      int size) {
+        User teacher = userRepository.findById(currentUserId)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "user not found"));
+        if (teacher.getRole() != User.Role.TEACHER) {
+            throw new ApiException(HttpStatus.FORBIDDEN, "only TEACHER can view applications");
+        }
+        checkTeamLeader(teacher.getId(), teamIdOptional);
+        Application.Status status = parseStatus(statusOptional);
+
+        int limit = pageLimit(size);
+        KeysetCursor cursor = KeysetCursor.decode(cursorValue);
+        PageRequest pageRequest = PageRequest.of(0, limit + 1);
+        List<ApplicationListRow> rows = cursor == null
+                ? applicationRepository.findTeacherRowsFirstPage(teacher.getId(), teamIdOptional, status, pageRequest)
+                : applicationRepository.findTeacherRowsPageAfter(teacher.getId(), teamIdOptional, status,
+                cursor.getCreatedAt(), cursor.getId(), pageRequest);
+        return toPage(rows, limit, cursor);
+    }
+
     @Transactional
     public ApplicationResponse review(Long currentUserId, Long applicationId, ApplicationReviewRequest req) {
         User teacher = userRepository.findById(currentUserId)
@@ -177,7 +219,8 @@ public class ApplicationService {
         if (teamRef == null) {
             throw new ApiException(HttpStatus.NOT_FOUND, "team not found");
         }
-        Team team = teamRepository.findById(teamRef.getId())
+        // Locked like in reviewBatch, so single and bulk approvals cannot both take the last seat.
+        Team team = teamRepository.findByIdForUpdate(teamRef.getId())
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "team not found"));
 
         if (team.getStatus() == Team.TeamStatus.DISBANDED) {
@@ -227,6 +270,7 @@ public class ApplicationService {
             member.setRole(TeamMember.Role.MEMBER);
             member.setJoinedAt(LocalDateTime.now());
             teamMemberRepository.save(member);
+            eventPublisher.publishEvent(UserHonorsChangedEvent.of(student.getId()));
 
             application.setStatus(Application.Status.APPROVED);
             application.setIsActive(true);
@@ -242,9 +286,230 @@ public class ApplicationService {
         }
 
         Application saved = applicationRepository.save(application);
+        eventPublisher.publishEvent(StateTransitionEvent.application(saved.getId(), team.getId(),
+                approved ? StateTransitionEvent.Action.APPROVE : StateTransitionEvent.Action.REJECT,
+                Application.Status.PENDING, saved.getStatus(), teacher.getId(), saved.getReason()));
         return toResponse(saved);
     }
 
+    /**
+     * Review many applications of one team in a single transaction.
+     * Request-level problems (auth, team state, size) fail the call; item-level problems are reported per item
+     * and the item is skipped. The team row is locked once and capacity is evaluated for the whole batch in
+     * memory, in request order. Applications and active members are each loaded with one query, new members go
+     * in via saveAll (batched under the performance profile) and statuses are written with one UPDATE per
+     * (outcome, reason) pair.
+     */
+    public ApplicationBulkReviewResponse reviewBatch(Long currentUserId, ApplicationBulkReviewRequest request) {
+        if (request == null || request.getTeamId() == null || request.getItems() == null
+                || request.getItems().isEmpty()) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "teamId and items are required");
+        }
+        if (request.getItems().size() > MAX_BULK_REVIEW_ITEMS) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "too many items, max " + MAX_BULK_REVIEW_ITEMS);
+        }
+
+        User teacher = userRepository.findById(currentUserId)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "user not found"));
+        if (teacher.getRole() != User.Role.TEACHER) {
+            throw new ApiException(HttpStatus.FORBIDDEN, "only TEACHER can review");
+        }
+        Team team = teamRepository.findByIdForUpdate(request.getTeamId())
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "team not found"));
+        if (team.getStatus() == Team.TeamStatus.DISBANDED) {
+            throw new ApiException(HttpStatus.CONFLICT, "team is disbanded");
+        }
+        if (team.getLeader() == null || !teacher.getId().equals(team.getLeader().getId())) {
+            throw new ApiException(HttpStatus.FORBIDDEN, "not team leader");
+        }
+
+        Set<Long> applicationIds = new HashSet<>();
+        for (ApplicationBulkReviewItem item : request.getItems()) {
+            if (item == null || item.getApplicationId() == null) {
+                throw new ApiException(HttpStatus.BAD_REQUEST, "applicationId is required");
+            }
+            if (!applicationIds.add(item.getApplicationId())) {
+                throw new ApiException(HttpStatus.BAD_REQUEST, "duplicate applicationId " + item.getApplicationId());
+            }
+        }
+        Map<Long, ApplicationReviewCandidate> candidates = new HashMap<>();
+        for (ApplicationReviewCandidate candidate : applicationRepository.findReviewCandidates(applicationIds)) {
+            candidates.put(candidate.getId(), candidate);
+        }
+
+        // Approval preconditions shared by the whole batch; checked lazily so reject-only batches skip them.
+        String approvalBlocked = null;
+        Integer maxSize = null;
+        long memberCount = 0;
+        Set<Long> memberIds = null;
+        boolean anyApproval = request.getItems().stream().anyMatch(item -> Boolean.TRUE.equals(item.getApproved()));
+        if (anyApproval) {
+            Competition competition = team.getCompetition();
+            if (team.getStatus() != Team.TeamStatus.RECRUITING) {
+                approvalBlocked = "team is not recruiting";
+            } else if (competition == null) {
+                approvalBlocked = "competition not found";
+            } else if (competition.getStatus() == Competition.CompetitionStatus.FINISHED) {
+                approvalBlocked = "竞赛已结束，不能通过申请";
+            } else {
+                maxSize = competition.getMaxTeamSize();
+                memberIds = new HashSet<>();
+                for (TeamMemberRef ref : teamMemberRepository.findActiveMemberRefs(List.of(team.getId()))) {
+                    memberIds.add(ref.getUserId());
+                }
+                memberCount = memberIds.size();
+            }
+        }
+
+        List<ApplicationBulkReviewResult> results = new ArrayList<>(request.getItems().size());
+        // status -> reason -> application ids; one UPDATE per leaf list.
+        Map<Application.Status, Map<String, List<Long>>> updates = new EnumMap<>(Application.Status.class);
+        List<TeamMember> newMembers = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        int approvedCount = 0;
+        int rejectedCount = 0;
+        for (ApplicationBulkReviewItem item : request.getItems()) {
+            ApplicationBulkReviewResult result = new ApplicationBulkReviewResult();
+            result.setApplicationId(item.getApplicationId());
+            results.add(result);
+
+            ApplicationReviewCandidate candidate = candidates.get(item.getApplicationId());
+            if (candidate == null || !team.getId().equals(candidate.getTeamId())) {
+                result.setError("application not found");
+                continue;
+            }
+            result.setStudentId(candidate.getStudentId());
+            if (candidate.getStatus() != Application.Status.PENDING) {
+                result.setError("application already reviewed");
+                continue;
+            }
+
+            boolean approved = Boolean.TRUE.equals(item.getApproved());
+            if (approved) {
+                if (approvalBlocked != null) {
+                    result.setError(approvalBlocked);
+                    continue;
+                }
+                if (memberIds.contains(candidate.getStudentId())) {
+                    result.setError("student already in team");
+                    continue;
+                }
+                if (maxSize != null && memberCount >= maxSize) {
+                    result.setError("team is full");
+                    continue;
+                }
+                memberIds.add(candidate.getStudentId());
+                memberCount++;
+
+                TeamMember member = new TeamMember();
+                member.setTeam(team);
+                member.setUser(userRepository.getReferenceById(candidate.getStudentId()));
+                member.setRole(TeamMember.Role.MEMBER);
+                member.setJoinedAt(now);
+                newMembers.add(member);
+                approvedCount++;
+            } else {
+                rejectedCount++;
+            }
+            Application.Status status = approved ? Application.Status.APPROVED : Application.Status.REJECTED;
+            result.setStatus(status);
+            updates.computeIfAbsent(status, key -> new LinkedHashMap<>())
+                    .computeIfAbsent(item.getReason(), key -> new ArrayList<>())
+                    .add(candidate.getId());
+        }
+
+        for (Map.Entry<Application.Status, Map<String, List<Long>>> byStatus : updates.entrySet()) {
+            Application.Status status = byStatus.getKey();
+            for (Map.Entry<String, List<Long>> byReason : byStatus.getValue().entrySet()) {
+                int updated = applicationRepository.markReviewed(byReason.getValue(), status,
+                        status == Application.Status.APPROVED, now, teacher, byReason.getKey(),
+                        Application.Status.PENDING);
+                if (updated != byReason.getValue().size()) {
+                    // Another request reviewed some of them since they were loaded; nothing of this batch is kept.
+                    throw new ApiException(HttpStatus.CONFLICT, "applications changed during review, retry");
+                }
+                StateTransitionEvent.Action action = status == Application.Status.APPROVED
+                        ? StateTransitionEvent.Action.APPROVE : StateTransitionEvent.Action.REJECT;
+                for (Long applicationId : byReason.getValue()) {
+                    eventPublisher.publishEvent(StateTransitionEvent.application(applicationId, team.getId(), action,
+                            Application.Status.PENDING, status, teacher.getId(), byReason.getKey()));
+                }
+            }
+        }
+        if (!newMembers.isEmpty()) {
+            teamMemberRepository.saveAll(newMembers);
+            List<Long> studentIds = new ArrayList<>(newMembers.size());
+            for (TeamMember member : newMembers) {
+                studentIds.add(member.getUser().getId());
+            }
+            eventPublisher.publishEvent(new UserHonorsChangedEvent(studentIds));
+        }
+
+        ApplicationBulkReviewResponse response = new ApplicationBulkReviewResponse();
+        response.setTeamId(team.getId());
+        response.setApprovedCount(approvedCount);
+        response.setRejectedCount(rejectedCount);
+        response.setFailedCount(results.size() - approvedCount - rejectedCount);
+        response.setResults(results);
+        return response;
+    }
+
+    private void checkTeamLeader(Long teacherId, Long teamIdOptional) {
+        if (teamIdOptional != null && teamRepository.findByIdAndLeaderId(teamIdOptional, teacherId).isEmpty()) {
+            throw new ApiException(HttpStatus.FORBIDDEN, "not team leader");
+        }
+    }
+
+    private Application.Status parseStatus(String statusOptional) {
+        if (statusOptional == null || statusOptional.isBlank()) {
+            return null;
+        }
+        try {
+            return Application.Status.valueOf(statusOptional);
+        } catch (IllegalArgumentException ex) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "invalid status");
+        }
+    }
+
+    private static int pageLimit(int size) {
+        return size > 0 ? Math.min(size, 200) : 50;
+    }
+
+    private CursorPageResponse<ApplicationResponse> toPage(List<ApplicationListRow> rows, int limit,
+                                                           KeysetCursor cursor) {
+        boolean hasMore = rows.size() > limit;
+        if (hasMore) {
+            rows = rows.subList(0, limit);
+        }
+        CursorPageResponse<ApplicationResponse> page = new CursorPageResponse<>();
+        page.setItems(rows.stream().map(this::toResponse).collect(Collectors.toList()));
+        page.setHasMore(hasMore);
+        if (rows.isEmpty()) {
+            page.setNextCursor(cursor == null ? null : cursor.encode());
+        } else {
+            ApplicationListRow last = rows.get(rows.size() - 1);
+            page.setNextCursor(KeysetCursor.of(last.getAppliedAt(), last.getId()).encode());
+        }
+        return page;
+    }
+
+    private ApplicationResponse toResponse(ApplicationListRow row) {
+        ApplicationResponse response = new ApplicationResponse();
+        response.setId(row.getId());
+        response.setCompetitionId(row.getCompetitionId());
+        response.setTeamId(row.getTeamId());
+        response.setStudentId(row.getStudentId());
+        response.setStatus(row.getStatus());
+        response.setIsActive(row.getIsActive());
+        response.setAppliedAt(row.getAppliedAt());
+        response.setReviewedAt(row.getReviewedAt());
+        response.setReviewedBy(row.getReviewedBy());
+        response.setRemovedAt(row.getRemovedAt());
+        response.setRemovedBy(row.getRemovedBy());
+        response.setReason(row.getReason());
+        return response;
+    }
+
     private ApplicationResponse toResponse(Application application) {
         ApplicationResponse response = new ApplicationResponse();
         response.setId(application.getId());
@@ -1,8 +1,13 @@
 package com.competition.service;
 
+import com.competition.dto.AwardBulkPublishItem;
+import com.competition.dto.AwardBulkPublishRequest;
+import com.competition.dto.AwardBulkPublishResponse;
+import com.competition.dto.AwardBulkPublishResult;
 import com.competition.dto.AwardPublishRequest;
 import com.competition.dto.AwardPublishResponse;
 import com.competition.dto.AwardRecordItem;
+import com.competition.dto.CursorPageResponse;
 import com.competition.entity.AwardRecipient;
 import com.competition.entity.Competition;
 import com.competition.entity.Team;
@@ -16,18 +21,29 @@ import com.competition.repository.TeamAwardRepository;
 import com.competition.repository.TeamMemberRepository;
 import com.competition.repository.TeamRepository;
 import com.competition.repository.UserRepository;
+import com.competition.repository.projection.AwardRecipientCount;
+import com.competition.repository.projection.TeamAwardCandidate;
+import com.competition.repository.projection.TeamMemberRef;
+import com.competition.utils.KeysetCursor;
+import com.competition.event.UserHonorsChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Service
@@ -36,6 +52,7 @@ import java.util.Set;
 public class AwardAdminService {
 
     private static final Byte ACTIVE_FLAG = 1;
+    private static final int MAX_BULK_ITEMS = 1000;
 
     private final UserRepository userRepository;
     private final CompetitionRepository competitionRepository;
@@ -43,6 +60,8 @@ public class AwardAdminService {
     private final TeamMemberRepository teamMemberRepository;
     private final TeamAwardRepository teamAwardRepository;
     private final AwardRecipientRepository awardRecipientRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public AwardPublishResponse publishAward(Long adminUserId, AwardPublishRequest request) {
@@ -156,6 +175,7 @@ public class AwardAdminService {
             recipients.add(recipient);
         }
         awardRecipientRepository.saveAll(recipients);
+        eventPublisher.publishEvent(new UserHonorsChangedEvent(recipientUserIds));
 
         AwardPublishResponse response = new AwardPublishResponse();
         response.setAwardId(savedAward.getId());
@@ -167,6 +187,161 @@ public class AwardAdminService {
         return response;
     }
 
+    /**
+     * Publish awards for many teams of one competition in a single transaction.
+     * Request-level problems (auth, competition, size) fail the call; item-level problems are reported
+     * per item and the item is skipped. Teams, existing awards and active members are each loaded with
+     * one query, team_awards rows go in as one JDBC batch, recipients via saveAll (batched under the
+     * performance profile).
+     */
+    @Transactional
+    public AwardBulkPublishResponse publishAwards(Long adminUserId, AwardBulkPublishRequest request) {
+        if (request == null || request.getCompetitionId() == null || request.getItems() == null
+                || request.getItems().isEmpty()) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "competitionId and items are required");
+        }
+        if (request.getItems().size() > MAX_BULK_ITEMS) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "too many items, max " + MAX_BULK_ITEMS);
+        }
+
+        User admin = userRepository.findById(adminUserId)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "user not found"));
+        if (admin.getRole() != User.Role.ADMIN) {
+            throw new ApiException(HttpStatus.FORBIDDEN, "only ADMIN can publish awards");
+        }
+        Competition competition = competitionRepository.findById(request.getCompetitionId())
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "competition not found"));
+        if (competition.getStatus() != Competition.CompetitionStatus.FINISHED) {
+            throw new ApiException(HttpStatus.CONFLICT, "competition is not finished");
+        }
+
+        Set<Long> teamIds = new HashSet<>();
+        for (AwardBulkPublishItem item : request.getItems()) {
+            if (item != null && item.getTeamId() != null) {
+                teamIds.add(item.getTeamId());
+            }
+        }
+        Map<Long, TeamAwardCandidate> teams = new HashMap<>();
+        Set<Long> awardedTeamIds = new HashSet<>();
+        Map<Long, List<Long>> membersByTeam = new HashMap<>();
+        if (!teamIds.isEmpty()) {
+            for (TeamAwardCandidate team : teamRepository.findAwardCandidates(teamIds)) {
+                teams.put(team.getId(), team);
+            }
+            awardedTeamIds.addAll(teamAwardRepository.findAwardedTeamIds(competition.getId(), teamIds));
+            for (TeamMemberRef member : teamMemberRepository.findActiveMemberRefs(teamIds)) {
+                membersByTeam.computeIfAbsent(member.getTeamId(), key -> new ArrayList<>()).add(member.getUserId());
+            }
+        }
+
+        List<AwardBulkPublishResult> results = new ArrayList<>();
+        List<AwardBulkPublishResult> accepted = new ArrayList<>();
+        Set<Long> seenTeamIds = new HashSet<>();
+        for (AwardBulkPublishItem item : request.getItems()) {
+            AwardBulkPublishResult result = new AwardBulkPublishResult();
+            result.setTeamId(item == null ? null : item.getTeamId());
+            String awardName = item == null || item.getAwardName() == null ? null : item.getAwardName().trim();
+            result.setAwardName(awardName);
+            String error = validateBulkItem(competition.getId(), result.getTeamId(), awardName,
+                    teams, awardedTeamIds, membersByTeam, seenTeamIds);
+            result.setPublished(error == null);
+            result.setError(error);
+            if (error == null) {
+                List<Long> recipients = new ArrayList<>(new LinkedHashSet<>(membersByTeam.get(result.getTeamId())));
+                result.setRecipientUserIds(recipients);
+                result.setRecipientCount(recipients.size());
+                accepted.add(result);
+            }
+            results.add(result);
+        }
+
+        if (!accepted.isEmpty()) {
+            insertAwards(competition.getId(), admin.getId(), accepted);
+        }
+
+        log.info("publishAwards: adminUserId={}, competitionId={}, published={}, rejected={}",
+                admin.getId(), competition.getId(), accepted.size(), results.size() - accepted.size());
+        AwardBulkPublishResponse response = new AwardBulkPublishResponse();
+        response.setCompetitionId(competition.getId());
+        response.setPublishedCount(accepted.size());
+        response.setRejectedCount(results.size() - accepted.size());
+        response.setResults(results);
+        return response;
+    }
+
+    private String validateBulkItem(Long competitionId,
+                                    Long teamId,
+                                    String awardName,
+                                    Map<Long, TeamAwardCandidate> teams,
+                                    Set<Long> awardedTeamIds,
+                                    Map<Long, List<Long>> membersByTeam,
+                                    Set<Long> seenTeamIds) {
+        if (teamId == null || awardName == null || awardName.isEmpty()) {
+            return "teamId and awardName are required";
+        }
+        if (awardName.length() > 64) {
+            return "awardName too long";
+        }
+        if (!seenTeamIds.add(teamId)) {
+            return "duplicate team in request";
+        }
+        TeamAwardCandidate team = teams.get(teamId);
+        if (team == null) {
+            return "team not found";
+        }
+        if (!competitionId.equals(team.getCompetitionId())) {
+            return "team does not belong to competition";
+        }
+        if (awardedTeamIds.contains(teamId)) {
+            return "award already published for this team";
+        }
+        if (team.getStatus() != Team.TeamStatus.CLOSED) {
+            return "team is not closed";
+        }
+        if (!membersByTeam.containsKey(teamId)) {
+            return "no active members";
+        }
+        return null;
+    }
+
+    private void insertAwards(Long competitionId, Long adminUserId, List<AwardBulkPublishResult> accepted) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp publishedAt = Timestamp.valueOf(now);
+        List<Object[]> rows = new ArrayList<>(accepted.size());
+        for (AwardBulkPublishResult result : accepted) {
+            rows.add(new Object[]{competitionId, result.getTeamId(), result.getAwardName(), adminUserId, publishedAt, ACTIVE_FLAG});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO team_awards " +
+                "(competition_id, team_id, award_name, published_by, published_at, is_active) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", rows);
+
+        // IDENTITY keys are not returned by batch inserts; one team has at most one award per competition.
+        Map<Long, AwardBulkPublishResult> byTeam = new HashMap<>();
+        for (AwardBulkPublishResult result : accepted) {
+            byTeam.put(result.getTeamId(), result);
+        }
+        for (TeamAward award : teamAwardRepository.findByCompetitionIdAndTeamIdIn(competitionId, byTeam.keySet())) {
+            byTeam.get(award.getTeamId()).setAwardId(award.getId());
+        }
+
+        List<AwardRecipient> recipients = new ArrayList<>();
+        for (AwardBulkPublishResult result : accepted) {
+            for (Long userId : result.getRecipientUserIds()) {
+                AwardRecipient recipient = new AwardRecipient();
+                recipient.setTeamAwardId(result.getAwardId());
+                recipient.setUserId(userId);
+                recipient.setRecordedAt(now);
+                recipients.add(recipient);
+            }
+        }
+        awardRecipientRepository.saveAll(recipients);
+        Set<Long> recipientUserIds = new HashSet<>();
+        for (AwardRecipient recipient : recipients) {
+            recipientUserIds.add(recipient.getUserId());
+        }
+        eventPublisher.publishEvent(new UserHonorsChangedEvent(recipientUserIds));
+    }
+
     @Transactional(readOnly = true)
     public List<AwardRecordItem> listAwardRecords(Long adminUserId, Long competitionId, Long teamId, int size) {
         User admin = userRepository.findById(adminUserId)
@@ -192,15 +367,69 @@ public class AwardAdminService {
             awardsPage = teamAwardRepository.findAllByOrderByPublishedAtDesc(pageRequest);
         }
 
+        return toRecordItems(awardsPage.getContent());
+    }
+
+    /**
+     * Full award history, newest first, in keyset pages of (publishedAt, id).
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AwardRecordItem> listAwardRecordsPage(Long adminUserId, Long competitionId, Long teamId,
+                                                                    String cursorValue, int size) {
+        User admin = userRepository.findById(adminUserId)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "user not found"));
+        if (admin.getRole() != User.Role.ADMIN) {
+            throw new ApiException(HttpStatus.FORBIDDEN, "only ADMIN can view award records");
+        }
+
+        int limit = size > 0 ? Math.min(size, 200) : 50;
+        KeysetCursor cursor = KeysetCursor.decode(cursorValue);
+        // One extra row tells whether another page exists.
+        PageRequest pageRequest = PageRequest.of(0, limit + 1);
+        List<TeamAward> awards = cursor == null
+                ? teamAwardRepository.findRecordsFirstPage(competitionId, teamId, pageRequest)
+                : teamAwardRepository.findRecordsPageAfter(competitionId, teamId,
+                cursor.getCreatedAt(), cursor.getId(), pageRequest);
+
+        boolean hasMore = awards.size() > limit;
+        if (hasMore) {
+            awards = awards.subList(0, limit);
+        }
+
+        CursorPageResponse<AwardRecordItem> page = new CursorPageResponse<>();
+        page.setItems(toRecordItems(awards));
+        page.setHasMore(hasMore);
+        if (awards.isEmpty()) {
+            page.setNextCursor(cursor == null ? null : cursor.encode());
+        } else {
+            TeamAward last = awards.get(awards.size() - 1);
+            page.setNextCursor(KeysetCursor.of(last.getPublishedAt(), last.getId()).encode());
+        }
+        return page;
+    }
+
+    // Recipient counts for the whole page come from one GROUP BY query.
+    private List<AwardRecordItem> toRecordItems(List<TeamAward> awards) {
+        Map<Long, Long> recipientCounts = new HashMap<>();
+        if (!awards.isEmpty()) {
+            List<Long> awardIds = new ArrayList<>(awards.size());
+            for (TeamAward award : awards) {
+                awardIds.add(award.getId());
+            }
+            for (AwardRecipientCount count : awardRecipientRepository.countByTeamAwardIds(awardIds)) {
+                recipientCounts.put(count.getTeamAwardId(), count.getRecipientCount());
+            }
+        }
+
         List<AwardRecordItem> records = new ArrayList<>();
-        for (TeamAward award : awardsPage.getContent()) {
+        for (TeamAward award : awards) {
             AwardRecordItem item = new AwardRecordItem();
             item.setAwardId(award.getId());
             item.setCompetitionId(award.getCompetitionId());
             item.setTeamId(award.getTeamId());
             item.setAwardName(award.getAwardName());
             item.setPublishedAt(award.getPublishedAt());
-            item.setRecipientCount((int) awardRecipientRepository.countByTeamAwardId(award.getId()));
+            item.setRecipientCount(recipientCounts.getOrDefault(award.getId(), 0L).intValue());
             records.add(item);
         }
         return records;
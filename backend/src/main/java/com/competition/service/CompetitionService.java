@@ -8,13 +8,17 @@ import com.competition.entity.Competition;
 import com.competition.entity.CompetitionSkill;
 import com.competition.entity.Team;
 import com.competition.entity.User;
+import com.competition.event.CompetitionScheduleChangedEvent;
 import com.competition.exception.ApiException;
 import com.competition.repository.CompetitionRepository;
 import com.competition.repository.CompetitionSkillRepository;
 import com.competition.repository.TeamRepository;
 import com.competition.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -42,6 +46,8 @@ public class CompetitionService {
     private final UserRepository userRepository;
     private final TeamRepository teamRepository;
     private final RecommendationService recommendationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
     private static final int DEFAULT_TOP_K = 10;
     private static final int MAX_TOP_K = 50;
 
@@ -58,6 +64,7 @@ public class CompetitionService {
         );
         Competition competition = convertToEntity(request);
         Competition savedCompetition = competitionRepository.save(competition);
+        publishScheduleChanged(savedCompetition);
 
         // 保存竞赛技能需求
         if (competition.getCompetitionSkills() != null) {
@@ -102,7 +109,11 @@ public class CompetitionService {
                                                      Long userId,
                                                      Integer topK) {
         int effectiveTopK = calculateEffectiveTopK(topK);
+        Timer.Sample stage = Timer.start(meterRegistry);
         String fallbackReason = recommend ? recommendationService.getRecommendFallbackReason(userId) : null;
+        if (recommend) {
+            stage.stop(recommendStageTimer("fallback-check"));
+        }
         if (recommend) {
             log.info("competitions recommendEnabled={}, effectiveTopK={}, fallbackReason={}",
                     true, effectiveTopK, fallbackReason);
@@ -115,16 +126,21 @@ public class CompetitionService {
             return getCompetitionsDefault(pageable, name, status, keyword, applyable);
         }
 
+        stage = Timer.start(meterRegistry);
         List<Competition> candidates = getCandidateCompetitions(name, status, keyword, applyable);
+        stage.stop(recommendStageTimer("candidates"));
         if (candidates.isEmpty()) {
             return new PageImpl<>(new ArrayList<>(), pageable, 0);
         }
 
+        stage = Timer.start(meterRegistry);
         Map<Long, Double> matchScores = recommendationService.calculateCompetitionMatchScores(userId, candidates);
+        stage.stop(recommendStageTimer("match-scores"));
         if (matchScores.isEmpty()) {
             return getCompetitionsDefault(pageable, name, status, keyword, applyable);
         }
 
+        stage = Timer.start(meterRegistry);
         Comparator<Competition> baseComparator = buildSortComparator(pageable.getSort());
         List<Competition> sortedCandidates = new ArrayList<>(candidates);
         sortedCandidates.sort(baseComparator);
@@ -151,6 +167,9 @@ public class CompetitionService {
         combined.addAll(rest);
 
         List<Competition> pageContent = slice(combined, pageable);
+        stage.stop(recommendStageTimer("ranking"));
+
+        stage = Timer.start(meterRegistry);
         List<CompetitionResponse> responses = pageContent.stream()
                 .map(competition -> convertToResponse(
                         competition,
@@ -160,10 +179,19 @@ public class CompetitionService {
                                 ? recommendationService.buildCompetitionRecommendReason(userId, competition)
                                 : null))
                 .collect(Collectors.toList());
+        stage.stop(recommendStageTimer("responses"));
 
         return new PageImpl<>(responses, pageable, combined.size());
     }
 
+    // Stages of the recommended listing: fallback-check, candidates, match-scores, ranking, responses (with reasons).
+    private Timer recommendStageTimer(String stage) {
+        return Timer.builder("app.competitions.recommend.stage")
+                .description("Time spent per stage of the recommended competition listing")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
     /**
      * 获取竞赛下队伍推荐
      */
@@ -272,9 +300,15 @@ public class CompetitionService {
                 .orElseThrow(() -> new RuntimeException("竞赛不存在"));
         applyUpdate(competition, request);
         Competition savedCompetition = competitionRepository.save(competition);
+        publishScheduleChanged(savedCompetition);
         return convertToResponse(savedCompetition);
     }
 
+    private void publishScheduleChanged(Competition competition) {
+        eventPublisher.publishEvent(new CompetitionScheduleChangedEvent(
+                competition.getId(), competition.getStartDate(), competition.getEndDate()));
+    }
+
     private Competition convertToEntity(CompetitionCreateRequest request) {
         Competition competition = new Competition();
         competition.setName(request.getName());
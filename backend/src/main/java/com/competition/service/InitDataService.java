@@ -27,16 +27,24 @@ public class InitDataService implements CommandLineRunner {
     private final TeamMemberRepository teamMemberRepository;
     private final UserBehaviorRepository userBehaviorRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AppMetadataRepository appMetadataRepository;
+
+    private static final String SEED_MARKER_KEY = "seed_data";
 
     @Override
     @Transactional
     public void run(String... args) throws Exception {
+        // 已记录过种子标记时只做一次主键查询即返回
+        if (appMetadataRepository.existsById(SEED_MARKER_KEY)) {
+            return;
+        }
         if (userRepository.count() == 0) {
             System.out.println("开始初始化测试数据...");
             initTestData();
             System.out.println("测试数据初始化完成！");
             printLoginInfo();
         }
+        appMetadataRepository.save(new AppMetadata(SEED_MARKER_KEY, "done"));
     }
 
     private void initTestData() {
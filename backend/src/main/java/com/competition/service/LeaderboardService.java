@@ -0,0 +1,384 @@
+package com.competition.service;
+
+import com.competition.dto.LeaderboardEntry;
+import com.competition.dto.LeaderboardResponse;
+import com.competition.entity.User;
+import com.competition.event.UserHonorsChangedEvent;
+import com.competition.exception.ApiException;
+import com.competition.repository.UserRepository;
+import com.competition.utils.RankedScoreBoard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Award and participation leaderboards for students, teachers and schools.
+ * Per-user counters live in leaderboard_user_counters; all boards are held in memory as
+ * {@link RankedScoreBoard}s, so top-N and "my rank" never touch the database. A school's score is the
+ * sum of its users' scores.
+ * After a membership or award change commits, the affected users are queued and recounted by one task on the
+ * TaskScheduler (two indexed per-user counts each), which rewrites their counter rows and moves their scores.
+ * Recounting after commit, one batch at a time, means the last recount always sees the last change.
+ * Every node reloads the boards from the counter table periodically, which picks up other nodes' updates
+ * and users who changed school or role.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderboardService {
+
+    public enum Metric {
+        AWARDS, PARTICIPATION
+    }
+
+    private static final int REFRESH_BATCH_SIZE = 500;
+    private static final String MEMBER_COLUMNS = "u.id, u.role, u.school, u.real_name, u.username";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskScheduler taskScheduler;
+    private final UserRepository userRepository;
+
+    private final Set<Long> pendingUserIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    private volatile Boards boards = new Boards();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Integer counters = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT 1 FROM leaderboard_user_counters LIMIT 1) c", Integer.class);
+        Integer members = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT 1 FROM team_members LIMIT 1) m", Integer.class);
+        if (counters != null && counters == 0 && members != null && members > 0) {
+            // First start on a database that already has teams, or data written without events (seeding).
+            log.info("Leaderboard counters empty, rebuilding from team_members and award_recipients.");
+            rebuildCounters();
+        }
+        reload();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onHonorsChanged(UserHonorsChangedEvent event) {
+        pendingUserIds.addAll(event.getUserIds());
+        if (refreshScheduled.compareAndSet(false, true)) {
+            // Not inline: after commit the publisher's transaction is still bound to this thread,
+            // so writes issued here would never be committed.
+            taskScheduler.schedule(this::refreshPending, Instant.now());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.leaderboard.reload-interval-ms:600000}",
+            initialDelayString = "${app.leaderboard.reload-interval-ms:600000}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    public LeaderboardResponse topUsers(String roleValue, String metricValue, int size) {
+        User.Role role = parseRole(roleValue);
+        Metric metric = parseMetric(metricValue);
+        Boards current = boards;
+        RankedScoreBoard<Long> board = current.userBoard(role, metric);
+        List<LeaderboardEntry> entries = new ArrayList<>();
+        for (RankedScoreBoard.Ranked<Long> ranked : board.top(safeSize(size))) {
+            entries.add(toUserEntry(current.members.get(ranked.getKey()), ranked.getKey(), ranked.getScore(), ranked.getRank()));
+        }
+        return toResponse("users", role.name(), metric, board.size(), entries);
+    }
+
+    public LeaderboardEntry myUserRank(Long userId, String metricValue) {
+        Metric metric = parseMetric(metricValue);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "user not found"));
+        if (user.getRole() == User.Role.ADMIN) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "ADMIN is not ranked");
+        }
+        Boards current = boards;
+        RankedScoreBoard.Ranked<Long> ranked = current.userBoard(user.getRole(), metric).rank(userId);
+        if (ranked == null) {
+            LeaderboardEntry entry = new LeaderboardEntry();
+            entry.setUserId(userId);
+            entry.setName(displayName(user.getRealName(), user.getUsername()));
+            entry.setSchool(normalizeSchool(user.getSchool()));
+            return entry;
+        }
+        return toUserEntry(current.members.get(userId), userId, ranked.getScore(), ranked.getRank());
+    }
+
+    public LeaderboardResponse topSchools(String metricValue, int size) {
+        Metric metric = parseMetric(metricValue);
+        RankedScoreBoard<String> board = boards.schoolBoards.get(metric);
+        List<LeaderboardEntry> entries = new ArrayList<>();
+        for (RankedScoreBoard.Ranked<String> ranked : board.top(safeSize(size))) {
+            entries.add(toSchoolEntry(ranked.getKey(), ranked.getScore(), ranked.getRank()));
+        }
+        return toResponse("schools", null, metric, board.size(), entries);
+    }
+
+    public LeaderboardEntry mySchoolRank(Long userId, String metricValue) {
+        Metric metric = parseMetric(metricValue);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "user not found"));
+        String school = normalizeSchool(user.getSchool());
+        if (school == null) {
+            throw new ApiException(HttpStatus.NOT_FOUND, "school not set");
+        }
+        RankedScoreBoard.Ranked<String> ranked = boards.schoolBoards.get(metric).rank(school);
+        return ranked == null ? toSchoolEntry(school, 0, null) : toSchoolEntry(school, ranked.getScore(), ranked.getRank());
+    }
+
+    /**
+     * Recounts every user from team_members and award_recipients. Only needed when counters were bypassed,
+     * e.g. data imported with plain SQL; regular changes keep them current.
+     */
+    @Transactional
+    public int rebuildCounters(Long adminUserId) {
+        User admin = userRepository.findById(adminUserId)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "user not found"));
+        if (admin.getRole() != User.Role.ADMIN) {
+            throw new ApiException(HttpStatus.FORBIDDEN, "only ADMIN can rebuild leaderboards");
+        }
+        int rows = rebuildCounters();
+        reload();
+        return rows;
+    }
+
+    private int rebuildCounters() {
+        jdbcTemplate.update("DELETE FROM leaderboard_user_counters");
+        int rows = jdbcTemplate.update(
+                "INSERT INTO leaderboard_user_counters (user_id, award_count, participation_count, updated_at) " +
+                        "SELECT u.id, COALESCE(a.award_count, 0), COALESCE(p.participation_count, 0), NOW() " +
+                        "FROM users u " +
+                        "LEFT JOIN (SELECT ar.user_id, COUNT(ar.id) AS award_count FROM award_recipients ar " +
+                        "  JOIN team_awards ta ON ta.id = ar.team_award_id WHERE ta.is_active = 1 " +
+                        "  GROUP BY ar.user_id) a ON a.user_id = u.id " +
+                        "LEFT JOIN (SELECT tm.user_id, COUNT(DISTINCT tm.team_id) AS participation_count " +
+                        "  FROM team_members tm GROUP BY tm.user_id) p ON p.user_id = u.id " +
+                        "WHERE a.user_id IS NOT NULL OR p.user_id IS NOT NULL");
+        log.info("Leaderboard counters rebuilt: {} users.", rows);
+        return rows;
+    }
+
+    // Synchronized with refreshPending(): a refresh landing between this read and the swap would otherwise be
+    // applied to the boards being replaced and lost until the next reload.
+    private synchronized void reload() {
+        Boards loaded = new Boards();
+        jdbcTemplate.query("SELECT " + MEMBER_COLUMNS + ", c.award_count, c.participation_count " +
+                        "FROM leaderboard_user_counters c JOIN users u ON u.id = c.user_id",
+                rs -> {
+                    loaded.apply(readMember(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                            rs.getString(5), rs.getInt(6), rs.getInt(7)));
+                });
+        boards = loaded;
+        log.debug("Leaderboards reloaded: {} users.", loaded.members.size());
+    }
+
+    // One runner at a time; events arriving meanwhile schedule another run that waits here.
+    private synchronized void refreshPending() {
+        refreshScheduled.set(false);
+        while (!pendingUserIds.isEmpty()) {
+            List<Long> batch = new ArrayList<>(REFRESH_BATCH_SIZE);
+            Iterator<Long> it = pendingUserIds.iterator();
+            while (it.hasNext() && batch.size() < REFRESH_BATCH_SIZE) {
+                batch.add(it.next());
+                it.remove();
+            }
+            try {
+                refresh(batch);
+            } catch (RuntimeException ex) {
+                // Counter rows stay as they were; the next change or rebuild corrects them.
+                log.warn("Leaderboard refresh failed for {} users.", batch.size(), ex);
+            }
+        }
+    }
+
+    private void refresh(List<Long> userIds) {
+        String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+        List<Member> recounted = jdbcTemplate.query("SELECT " + MEMBER_COLUMNS + ", " +
+                        "(SELECT COUNT(ar.id) FROM award_recipients ar JOIN team_awards ta ON ta.id = ar.team_award_id " +
+                        "  WHERE ar.user_id = u.id AND ta.is_active = 1), " +
+                        "(SELECT COUNT(DISTINCT tm.team_id) FROM team_members tm WHERE tm.user_id = u.id) " +
+                        "FROM users u WHERE u.id IN (" + placeholders + ")",
+                (rs, rowNum) -> readMember(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                        rs.getString(5), rs.getInt(6), rs.getInt(7)),
+                userIds.toArray());
+        List<Object[]> args = new ArrayList<>(recounted.size());
+        for (Member member : recounted) {
+            args.add(new Object[]{member.userId, member.awards, member.participation});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO leaderboard_user_counters " +
+                "(user_id, award_count, participation_count, updated_at) VALUES (?, ?, ?, NOW()) " +
+                "ON DUPLICATE KEY UPDATE award_count = VALUES(award_count), " +
+                "participation_count = VALUES(participation_count), updated_at = NOW()", args);
+        synchronized (this) {
+            Boards current = boards;
+            for (Member member : recounted) {
+                current.apply(member);
+            }
+        }
+    }
+
+    private static Member readMember(long userId, String role, String school, String realName, String username,
+                                     int awards, int participation) {
+        User.Role parsed;
+        try {
+            parsed = role == null ? null : User.Role.valueOf(role);
+        } catch (IllegalArgumentException ex) {
+            parsed = null;
+        }
+        return new Member(userId, parsed, normalizeSchool(school), displayName(realName, username), awards, participation);
+    }
+
+    private static LeaderboardEntry toUserEntry(Member member, Long userId, int score, Integer rank) {
+        LeaderboardEntry entry = new LeaderboardEntry();
+        entry.setRank(rank);
+        entry.setUserId(userId);
+        entry.setScore(score);
+        if (member != null) {
+            entry.setName(member.name);
+            entry.setSchool(member.school);
+        }
+        return entry;
+    }
+
+    private static LeaderboardEntry toSchoolEntry(String school, int score, Integer rank) {
+        LeaderboardEntry entry = new LeaderboardEntry();
+        entry.setRank(rank);
+        entry.setName(school);
+        entry.setSchool(school);
+        entry.setScore(score);
+        return entry;
+    }
+
+    private static LeaderboardResponse toResponse(String scope, String role, Metric metric, int total,
+                                                  List<LeaderboardEntry> entries) {
+        LeaderboardResponse response = new LeaderboardResponse();
+        response.setScope(scope);
+        response.setRole(role);
+        response.setMetric(metric.name());
+        response.setTotal(total);
+        response.setEntries(entries);
+        return response;
+    }
+
+    private static Metric parseMetric(String value) {
+        if (value == null || value.isBlank()) {
+            return Metric.AWARDS;
+        }
+        try {
+            return Metric.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "metric must be AWARDS or PARTICIPATION");
+        }
+    }
+
+    private static User.Role parseRole(String value) {
+        if (value == null || value.isBlank()) {
+            return User.Role.STUDENT;
+        }
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        if (!normalized.equals(User.Role.STUDENT.name()) && !normalized.equals(User.Role.TEACHER.name())) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "role must be STUDENT or TEACHER");
+        }
+        return User.Role.valueOf(normalized);
+    }
+
+    private static int safeSize(int size) {
+        return size > 0 ? Math.min(size, 100) : 20;
+    }
+
+    private static String normalizeSchool(String school) {
+        return school == null || school.isBlank() ? null : school.trim();
+    }
+
+    private static String displayName(String realName, String username) {
+        return realName != null && !realName.isBlank() ? realName : username;
+    }
+
+    private static final class Member {
+        private final long userId;
+        private final User.Role role;
+        private final String school;
+        private final String name;
+        private final int awards;
+        private final int participation;
+
+        private Member(long userId, User.Role role, String school, String name, int awards, int participation) {
+            this.userId = userId;
+            this.role = role;
+            this.school = school;
+            this.name = name;
+            this.awards = awards;
+            this.participation = participation;
+        }
+
+        private int score(Metric metric) {
+            return metric == Metric.AWARDS ? awards : participation;
+        }
+    }
+
+    /**
+     * One consistent set of boards. reload() builds a fresh instance and swaps it in, so readers never see a
+     * half-loaded board; refreshes mutate the current instance under the service lock.
+     */
+    private static final class Boards {
+        private final Map<Long, Member> members = new ConcurrentHashMap<>();
+        private final Map<User.Role, Map<Metric, RankedScoreBoard<Long>>> userBoards = new EnumMap<>(User.Role.class);
+        private final Map<Metric, RankedScoreBoard<String>> schoolBoards = new EnumMap<>(Metric.class);
+
+        private Boards() {
+            for (User.Role role : List.of(User.Role.STUDENT, User.Role.TEACHER)) {
+                Map<Metric, RankedScoreBoard<Long>> byMetric = new EnumMap<>(Metric.class);
+                for (Metric metric : Metric.values()) {
+                    byMetric.put(metric, new RankedScoreBoard<>());
+                }
+                userBoards.put(role, byMetric);
+            }
+            for (Metric metric : Metric.values()) {
+                schoolBoards.put(metric, new RankedScoreBoard<>());
+            }
+        }
+
+        private RankedScoreBoard<Long> userBoard(User.Role role, Metric metric) {
+            return userBoards.get(role).get(metric);
+        }
+
+        private void apply(Member member) {
+            Member previous = members.put(member.userId, member);
+            for (Metric metric : Metric.values()) {
+                if (previous != null && previous.role != member.role && userBoards.containsKey(previous.role)) {
+                    userBoard(previous.role, metric).put(previous.userId, 0);
+                }
+                if (userBoards.containsKey(member.role)) {
+                    userBoard(member.role, metric).put(member.userId, member.score(metric));
+                }
+                RankedScoreBoard<String> schools = schoolBoards.get(metric);
+                if (previous != null && previous.school != null) {
+                    schools.put(previous.school, schools.score(previous.school) - previous.score(metric));
+                }
+                if (member.school != null) {
+                    schools.put(member.school, schools.score(member.school) + member.score(metric));
+                }
+            }
+        }
+    }
+}
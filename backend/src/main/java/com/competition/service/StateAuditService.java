@@ -0,0 +1,228 @@
+package com.competition.service;
+
+import com.competition.dto.CursorPageResponse;
+import com.competition.dto.StateAuditEventResponse;
+import com.competition.entity.User;
+import com.competition.event.StateTransitionEvent;
+import com.competition.exception.ApiException;
+import com.competition.repository.UserRepository;
+import com.competition.utils.KeysetCursor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append-only audit log of application and team status transitions.
+ * Committed StateTransitionEvents go into a bounded in-memory buffer, so the publishing request pays one
+ * queue offer; a scheduled flush writes the buffer with multi-row INSERTs. The log is best effort: a full
+ * buffer drops events (counted and logged), and a crash loses the unflushed tail (at most one flush interval).
+ * History reads therefore trail the change by up to app.audit.flush-interval-ms.
+ */
+@Service
+@Slf4j
+public class StateAuditService implements MeterBinder {
+
+    private static final String INSERT_PREFIX = "INSERT INTO state_audit_events " +
+            "(occurred_at, entity_type, entity_id, team_id, action, from_status, to_status, actor_id, reason) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 9;
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+    private static final String SELECT_COLUMNS = "SELECT id, occurred_at, entity_type, entity_id, team_id, action, " +
+            "from_status, to_status, actor_id, reason FROM state_audit_events ";
+    private static final String AFTER_CURSOR = "AND (occurred_at > ? OR (occurred_at = ? AND id > ?)) ";
+    private static final String OLDEST_FIRST = "ORDER BY occurred_at, id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final BlockingQueue<StateTransitionEvent> buffer;
+    private final int batchSize;
+    private final AtomicLong dropped = new AtomicLong();
+    // Batch whose insert failed; retried first on the next flush. Only touched under the flush lock.
+    private List<StateTransitionEvent> failed = List.of();
+    private int failedAttempts;
+
+    public StateAuditService(JdbcTemplate jdbcTemplate,
+                             UserRepository userRepository,
+                             @Value("${app.audit.buffer-capacity:10000}") int bufferCapacity,
+                             @Value("${app.audit.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("app.audit.buffered", buffer, BlockingQueue::size)
+                .description("Audit events waiting for the next flush")
+                .register(registry);
+        FunctionCounter.builder("app.audit.dropped", dropped, AtomicLong::get)
+                .description("Audit events lost to a full buffer or repeated write failures")
+                .register(registry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransition(StateTransitionEvent event) {
+        if (!buffer.offer(event)) {
+            long total = dropped.incrementAndGet();
+            if (total % 1000 == 1) {
+                log.warn("audit buffer full, dropping events, dropped so far={}", total);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.audit.flush-interval-ms:200}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public synchronized void flush() {
+        if (!failed.isEmpty() && !write(failed)) {
+            return;
+        }
+        List<StateTransitionEvent> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            if (!write(batch)) {
+                return;
+            }
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<StateAuditEventResponse> applicationHistory(Long adminUserId, Long applicationId,
+                                                                          String cursorValue, int size) {
+        requireAdmin(adminUserId);
+        return page("WHERE entity_type = ? AND entity_id = ? ",
+                new Object[]{StateTransitionEvent.EntityType.APPLICATION.name(), applicationId}, cursorValue, size);
+    }
+
+    /**
+     * The team's own transitions and those of every application made to it, oldest first.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<StateAuditEventResponse> teamHistory(Long adminUserId, Long teamId,
+                                                                   String cursorValue, int size) {
+        requireAdmin(adminUserId);
+        return page("WHERE team_id = ? ", new Object[]{teamId}, cursorValue, size);
+    }
+
+    // False when the batch could not be written; it is kept for the next flush unless it has failed too often.
+    private boolean write(List<StateTransitionEvent> batch) {
+        try {
+            insert(batch);
+        } catch (DataAccessException ex) {
+            failedAttempts = failed == batch ? failedAttempts + 1 : 1;
+            if (failedAttempts >= MAX_FLUSH_ATTEMPTS) {
+                log.error("audit flush failed {} times, dropping {} events", failedAttempts, batch.size(), ex);
+                dropped.addAndGet(batch.size());
+                failed = List.of();
+                return true;
+            }
+            log.warn("audit flush failed, will retry {} events", batch.size(), ex);
+            failed = batch;
+            return false;
+        }
+        failed = List.of();
+        return true;
+    }
+
+    private void insert(List<StateTransitionEvent> batch) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        Object[] args = new Object[batch.size() * COLUMN_COUNT];
+        int i = 0;
+        for (StateTransitionEvent event : batch) {
+            sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDERS);
+            args[i++] = Timestamp.valueOf(event.getOccurredAt());
+            args[i++] = event.getEntityType().name();
+            args[i++] = event.getEntityId();
+            args[i++] = event.getTeamId();
+            args[i++] = event.getAction().name();
+            args[i++] = event.getFromStatus();
+            args[i++] = event.getToStatus();
+            args[i++] = event.getActorId();
+            args[i++] = event.getReason();
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    private CursorPageResponse<StateAuditEventResponse> page(String filter, Object[] filterArgs,
+                                                             String cursorValue, int size) {
+        int limit = size > 0 ? Math.min(size, 200) : 50;
+        KeysetCursor cursor = KeysetCursor.decode(cursorValue);
+        List<Object> args = new ArrayList<>(List.of(filterArgs));
+        String sql = SELECT_COLUMNS + filter;
+        if (cursor != null) {
+            sql += AFTER_CURSOR;
+            Timestamp after = Timestamp.valueOf(cursor.getCreatedAt());
+            args.add(after);
+            args.add(after);
+            args.add(cursor.getId());
+        }
+        args.add(limit + 1);
+        List<StateAuditEventResponse> rows = jdbcTemplate.query(sql + OLDEST_FIRST, ROW_MAPPER, args.toArray());
+
+        boolean hasMore = rows.size() > limit;
+        if (hasMore) {
+            rows = rows.subList(0, limit);
+        }
+        CursorPageResponse<StateAuditEventResponse> page = new CursorPageResponse<>();
+        page.setItems(rows);
+        page.setHasMore(hasMore);
+        if (rows.isEmpty()) {
+            page.setNextCursor(cursor == null ? null : cursor.encode());
+        } else {
+            StateAuditEventResponse last = rows.get(rows.size() - 1);
+            page.setNextCursor(KeysetCursor.of(last.getOccurredAt(), last.getId()).encode());
+        }
+        return page;
+    }
+
+    private void requireAdmin(Long adminUserId) {
+        User admin = userRepository.findById(adminUserId)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "user not found"));
+        if (admin.getRole() != User.Role.ADMIN) {
+            throw new ApiException(HttpStatus.FORBIDDEN, "only ADMIN can view audit history");
+        }
+    }
+
+    private static final RowMapper<StateAuditEventResponse> ROW_MAPPER = (rs, rowNum) -> {
+        StateAuditEventResponse response = new StateAuditEventResponse();
+        response.setId(rs.getLong("id"));
+        response.setOccurredAt(rs.getTimestamp("occurred_at").toLocalDateTime());
+        response.setEntityType(StateTransitionEvent.EntityType.valueOf(rs.getString("entity_type")));
+        response.setEntityId(rs.getLong("entity_id"));
+        response.setTeamId(rs.getObject("team_id", Long.class));
+        response.setAction(StateTransitionEvent.Action.valueOf(rs.getString("action")));
+        response.setFromStatus(rs.getString("from_status"));
+        response.setToStatus(rs.getString("to_status"));
+        response.setActorId(rs.getObject("actor_id", Long.class));
+        response.setReason(rs.getString("reason"));
+        return response;
+    };
+}
@@ -0,0 +1,216 @@
+package com.competition.service;
+
+import com.competition.exception.ApiException;
+import com.competition.repository.SubmissionBlobRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed store for submission files.
+ * Files live under {upload-dir}/blobs/{first two hex chars}/{sha256}; identical content is stored once
+ * and submission_blobs.ref_count tracks how many team_submissions rows point at it.
+ * References are only ever added: replaced submissions stay listed and downloadable as history, and
+ * team_submissions rows are never deleted, so no blob becomes unreferenced. Whatever starts deleting
+ * submission rows must release their references and remove blobs that drop to zero.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SubmissionBlobService {
+
+    private static final String BLOB_DIR = "blobs";
+    private static final String TMP_DIR = "tmp";
+    private static final String STAGING_DIR = "staging";
+    private static final String FILE_URL_PREFIX = "/files/";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final Pattern CONTENT_HASH = Pattern.compile("[0-9a-f]{64}");
+
+    @Value("${app.upload-dir:uploads}")
+    private String uploadDir;
+
+    private final SubmissionBlobRepository submissionBlobRepository;
+
+    /**
+     * Stream the content to a temp file while hashing it, then move it into place unless the
+     * same content is already stored. Adds one reference to the blob in the caller's transaction.
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public StoredBlob store(InputStream in) {
+        StoredBlob blob = publish(in);
+        submissionBlobRepository.acquireReference(blob.getContentHash(), blob.getSizeBytes(), blob.getRelativePath());
+        return blob;
+    }
+
+    /**
+     * Publish a fully written staging file (see {@link #stagingPath(String)}) into the store.
+     * The file is copied, hashing the bytes as they are copied, and the copy is moved into place: the
+     * stored blob always matches its name even if a late chunk write still changes the staging file, and
+     * the staging file stays valid until the caller deletes it, so a failed completion can be retried from
+     * it. No reference is taken here; the caller adds it with {@link #acquireReference(StoredBlob)} in the
+     * transaction that records the submission.
+     */
+    public StoredBlob publishStaged(Path staged) {
+        try (InputStream in = Files.newInputStream(staged)) {
+            return publish(in);
+        } catch (IOException ex) {
+            log.error("staged file read failed, staged={}", staged, ex);
+            throw new ApiException(HttpStatus.INTERNAL_SERVER_ERROR, "file save failed");
+        }
+    }
+
+    /**
+     * Add one reference to a blob returned by {@link #publishStaged(Path)}, in the caller's transaction.
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public void acquireReference(StoredBlob blob) {
+        submissionBlobRepository.acquireReference(blob.getContentHash(), blob.getSizeBytes(), blob.getRelativePath());
+    }
+
+    /**
+     * Location for partially uploaded files.
+     */
+    public Path stagingPath(String name) {
+        return root().resolve(TMP_DIR).resolve(STAGING_DIR).resolve(name).normalize();
+    }
+
+    /**
+     * Path of a stored blob, or 404 if the hash is malformed or nothing is stored under it.
+     */
+    public Path blobPath(String contentHash) {
+        if (contentHash == null || !CONTENT_HASH.matcher(contentHash).matches()) {
+            throw new ApiException(HttpStatus.NOT_FOUND, "file not found");
+        }
+        Path path = root().resolve(blobRelativePath(contentHash));
+        if (!Files.isRegularFile(path)) {
+            throw new ApiException(HttpStatus.NOT_FOUND, "file not found");
+        }
+        return path;
+    }
+
+    /**
+     * Map a stored file_url (/files/...) back to a path under the upload dir; null if it points elsewhere.
+     * Works for legacy per-team files as well as blobs.
+     */
+    public Path resolveFileUrl(String fileUrl) {
+        if (fileUrl == null || !fileUrl.startsWith(FILE_URL_PREFIX)) {
+            return null;
+        }
+        Path root = root();
+        Path path = root.resolve(fileUrl.substring(FILE_URL_PREFIX.length())).normalize();
+        return path.startsWith(root) ? path : null;
+    }
+
+    private StoredBlob publish(InputStream in) {
+        Path tmpDir = root().resolve(TMP_DIR);
+        Path temp;
+        try {
+            Files.createDirectories(tmpDir);
+            temp = Files.createTempFile(tmpDir, "upload-", ".part");
+        } catch (IOException ex) {
+            log.error("blob temp file create failed, tmpDir={}", tmpDir, ex);
+            throw new ApiException(HttpStatus.INTERNAL_SERVER_ERROR, "file save failed");
+        }
+
+        MessageDigest digest = newDigest();
+        long size = 0;
+        try (DigestInputStream digestIn = new DigestInputStream(in, digest);
+             OutputStream out = Files.newOutputStream(temp)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = digestIn.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                size += read;
+            }
+        } catch (IOException ex) {
+            deleteQuietly(temp);
+            log.error("blob write failed, temp={}", temp, ex);
+            throw new ApiException(HttpStatus.INTERNAL_SERVER_ERROR, "file save failed");
+        }
+
+        String contentHash = toHex(digest.digest());
+        String relativePath = blobRelativePath(contentHash);
+        Path target = root().resolve(relativePath).normalize();
+        try {
+            if (Files.exists(target)) {
+                deleteQuietly(temp);
+            } else {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException ex) {
+                    // Same content finished uploading concurrently.
+                    deleteQuietly(temp);
+                }
+            }
+        } catch (IOException ex) {
+            deleteQuietly(temp);
+            log.error("blob commit failed, hash={}, target={}", contentHash, target, ex);
+            throw new ApiException(HttpStatus.INTERNAL_SERVER_ERROR, "file save failed");
+        }
+        return new StoredBlob(contentHash, size, relativePath);
+    }
+
+    private static String blobRelativePath(String contentHash) {
+        return BLOB_DIR + "/" + contentHash.substring(0, 2) + "/" + contentHash;
+    }
+
+    private Path root() {
+        return Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0x0f];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0x0f];
+        }
+        return new String(chars);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.warn("temp file cleanup failed, path={}", path, ex);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class StoredBlob {
+        private final String contentHash;
+        private final long sizeBytes;
+        private final String relativePath;
+
+        public String getFileUrl() {
+            return FILE_URL_PREFIX + relativePath;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.competition.service;
+
+import com.competition.entity.Competition;
+import com.competition.entity.User;
+import com.competition.exception.ApiException;
+import com.competition.repository.CompetitionRepository;
+import com.competition.repository.TeamSubmissionRepository;
+import com.competition.repository.UserRepository;
+import com.competition.repository.projection.SubmissionExportItem;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams all current submissions of a competition as one ZIP.
+ * Rows are read in keyset pages and files are copied one at a time through a fixed buffer,
+ * so memory use does not grow with the number of teams and nothing is staged on disk.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SubmissionExportService {
+
+    private static final int PAGE_SIZE = 200;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final TeamSubmissionRepository teamSubmissionRepository;
+    private final CompetitionRepository competitionRepository;
+    private final UserRepository userRepository;
+    private final SubmissionBlobService submissionBlobService;
+
+    /**
+     * Validate before the response is committed; errors after that point can only abort the stream.
+     */
+    @Transactional(readOnly = true)
+    public Competition checkExportAccess(Long adminUserId, Long competitionId) {
+        User admin = userRepository.findById(adminUserId)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "user not found"));
+        if (admin.getRole() != User.Role.ADMIN) {
+            throw new ApiException(HttpStatus.FORBIDDEN, "only ADMIN can export submissions");
+        }
+        return competitionRepository.findById(competitionId)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "competition not found"));
+    }
+
+    /**
+     * Each entry is stored as {teamId}-{teamName}/{submissionId}-{fileName}. The submission id keeps names
+     * unique (ZipOutputStream aborts on a duplicate) even if a team ends up with two current rows or two
+     * files share a name. Rows whose file is gone from disk are logged and skipped. No transaction spans the stream.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeExport(Long competitionId, OutputStream out) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int exported = 0;
+
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        // Submissions are mostly already-compressed archives/PDFs; favour throughput over ratio.
+        zip.setLevel(Deflater.BEST_SPEED);
+
+        long afterId = 0L;
+        List<SubmissionExportItem> page;
+        do {
+            page = teamSubmissionRepository.findCurrentForExport(competitionId, afterId, PageRequest.of(0, PAGE_SIZE));
+            for (SubmissionExportItem item : page) {
+                afterId = item.getId();
+                Path path = submissionBlobService.resolveFileUrl(item.getFileUrl());
+                if (path == null || !Files.isRegularFile(path)) {
+                    log.warn("export skipped missing file, submissionId={}, fileUrl={}", item.getId(), item.getFileUrl());
+                } else {
+                    zip.putNextEntry(new ZipEntry(entryName(item)));
+                    try (InputStream in = Files.newInputStream(path)) {
+                        int read;
+                        while ((read = in.read(buffer)) != -1) {
+                            zip.write(buffer, 0, read);
+                        }
+                    }
+                    zip.closeEntry();
+                    exported++;
+                }
+            }
+        } while (page.size() == PAGE_SIZE);
+
+        zip.finish();
+        zip.flush();
+        log.info("Submission export finished, competitionId={}, files={}", competitionId, exported);
+    }
+
+    private String entryName(SubmissionExportItem item) {
+        return item.getTeamId() + "-" + safeSegment(item.getTeamName()) + "/"
+                + item.getId() + "-" + safeSegment(item.getFileName());
+    }
+
+    private String safeSegment(String value) {
+        if (value == null || value.isBlank()) {
+            return "unnamed";
+        }
+        return value.replaceAll("[\\\\/:*?\"<>|\\x00-\\x1f]", "_");
+    }
+}
@@ -1,6 +1,7 @@
 package com.competition.service;
 
 import com.competition.dto.AdminTeacherApplicationListItemDTO;
+import com.competition.dto.CursorPageResponse;
 import com.competition.dto.TeacherApplicationCreateRequest;
 import com.competition.dto.TeacherApplicationListItemDTO;
 import com.competition.dto.TeacherApplicationResponse;
@@ -13,6 +14,7 @@ import com.competition.entity.TeamSkill;
 import com.competition.entity.TeacherApplication;
 import com.competition.entity.TeacherApplicationSkill;
 import com.competition.entity.User;
+import com.competition.event.StateTransitionEvent;
 import com.competition.exception.ApiException;
 import com.competition.repository.CompetitionRepository;
 import com.competition.repository.SkillRepository;
@@ -21,11 +23,15 @@ import com.competition.repository.TeamSkillRepository;
 import com.competition.repository.TeacherApplicationRepository;
 import com.competition.repository.TeacherApplicationSkillRepository;
 import com.competition.repository.UserRepository;
+import com.competition.repository.projection.TeacherApplicationSearchRow;
+import com.competition.utils.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,6 +42,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -53,6 +60,7 @@ public class TeacherApplicationService {
     private final TeamSkillRepository teamSkillRepository;
     private final UserRepository userRepository;
     private final TeacherApplicationSkillRepository teacherApplicationSkillRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TeacherApplicationResponse createApplication(Long userId, TeacherApplicationCreateRequest request) {
         if (request == null || request.getCompetitionId() == null) {
@@ -173,10 +181,50 @@ public class TeacherApplicationService {
             throw new ApiException(HttpStatus.FORBIDDEN, "only ADMIN can view applications");
         }
 
-        Page<TeacherApplication> page = teacherApplicationRepository.searchAdmin(status, keyword, pageable);
+        Page<TeacherApplicationSearchRow> page = teacherApplicationRepository.searchAdmin(
+                status, toSearchPattern(keyword), pageable);
         return page.map(this::toAdminListItem);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AdminTeacherApplicationListItemDTO> listAdminApplicationsPage(Long adminUserId,
+                                                                                           TeacherApplication.Status status,
+                                                                                           String keyword,
+                                                                                           String cursorValue,
+                                                                                           int size) {
+        User admin = userRepository.findById(adminUserId)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "user not found"));
+        if (admin.getRole() != User.Role.ADMIN) {
+            throw new ApiException(HttpStatus.FORBIDDEN, "only ADMIN can view applications");
+        }
+
+        int limit = size > 0 ? Math.min(size, 100) : 10;
+        KeysetCursor cursor = KeysetCursor.decode(cursorValue);
+        String pattern = toSearchPattern(keyword);
+        // One extra row tells whether another page exists.
+        PageRequest pageRequest = PageRequest.of(0, limit + 1);
+        List<TeacherApplicationSearchRow> rows = cursor == null
+                ? teacherApplicationRepository.searchAdminFirstPage(status, pattern, pageRequest)
+                : teacherApplicationRepository.searchAdminPageAfter(status, pattern,
+                cursor.getCreatedAt(), cursor.getId(), pageRequest);
+
+        boolean hasMore = rows.size() > limit;
+        if (hasMore) {
+            rows = rows.subList(0, limit);
+        }
+
+        CursorPageResponse<AdminTeacherApplicationListItemDTO> page = new CursorPageResponse<>();
+        page.setItems(rows.stream().map(this::toAdminListItem).collect(Collectors.toList()));
+        page.setHasMore(hasMore);
+        if (rows.isEmpty()) {
+            page.setNextCursor(cursor == null ? null : cursor.encode());
+        } else {
+            TeacherApplicationSearchRow last = rows.get(rows.size() - 1);
+            page.setNextCursor(KeysetCursor.of(last.getAppliedAt(), last.getId()).encode());
+        }
+        return page;
+    }
+
     public TeacherApplicationResponse reviewApplication(Long adminUserId, Long applicationId, TeacherApplicationReviewRequest request) {
         if (request == null || request.getApproved() == null) {
             throw new ApiException(HttpStatus.BAD_REQUEST, "approved is required");
@@ -203,7 +251,7 @@ public class TeacherApplicationService {
             if (competition.getStatus() == Competition.CompetitionStatus.FINISHED) {
                 throw new ApiException(HttpStatus.CONFLICT, "竞赛已结束，不能通过申请");
             }
-            Team team = ensureTeamForApplication(application);
+            Team team = ensureTeamForApplication(application, admin.getId());
             syncTeamSkillsFromApplication(application, team);
             application.setGeneratedTeam(team);
             application.setStatus(TeacherApplication.Status.APPROVED);
@@ -218,7 +266,7 @@ public class TeacherApplicationService {
         return toResponse(saved);
     }
 
-    private Team ensureTeamForApplication(TeacherApplication application) {
+    private Team ensureTeamForApplication(TeacherApplication application, Long adminUserId) {
         if (application.getGeneratedTeam() != null) {
             return application.getGeneratedTeam();
         }
@@ -245,7 +293,10 @@ public class TeacherApplicationService {
         team.setDescription(null);
 
         try {
-            return teamRepository.save(team);
+            Team saved = teamRepository.save(team);
+            eventPublisher.publishEvent(StateTransitionEvent.team(saved.getId(), StateTransitionEvent.Action.CREATE,
+                    null, Team.TeamStatus.RECRUITING, adminUserId, null));
+            return saved;
         } catch (DataIntegrityViolationException ex) {
             Team retry = teamRepository.findByCompetitionIdAndLeaderId(competition.getId(), teacher.getId());
             if (retry != null) {
@@ -346,33 +397,37 @@ public class TeacherApplicationService {
         return dto;
     }
 
-    private AdminTeacherApplicationListItemDTO toAdminListItem(TeacherApplication application) {
+    private AdminTeacherApplicationListItemDTO toAdminListItem(TeacherApplicationSearchRow row) {
         AdminTeacherApplicationListItemDTO dto = new AdminTeacherApplicationListItemDTO();
-        dto.setId(application.getId());
-        if (application.getTeacher() != null) {
-            dto.setTeacherId(application.getTeacher().getId());
-            dto.setTeacherName(resolveTeacherName(application.getTeacher()));
-        }
-        if (application.getCompetition() != null) {
-            dto.setCompetitionId(application.getCompetition().getId());
-            dto.setCompetitionName(application.getCompetition().getName());
-        }
-        dto.setStatus(application.getStatus());
-        dto.setCreatedAt(application.getAppliedAt());
+        dto.setId(row.getId());
+        dto.setTeacherId(row.getTeacherId());
+        dto.setTeacherName(resolveTeacherName(row.getTeacherRealName(), row.getTeacherUsername(),
+                row.getTeacherAccountNo()));
+        dto.setCompetitionId(row.getCompetitionId());
+        dto.setCompetitionName(row.getCompetitionName());
+        dto.setStatus(row.getStatus());
+        dto.setCreatedAt(row.getAppliedAt());
         return dto;
     }
 
-    private String resolveTeacherName(User teacher) {
-        if (teacher == null) {
+    /**
+     * Lower-cased '%keyword%' for TeacherApplication.searchText, or null for no keyword filter.
+     */
+    private String toSearchPattern(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
             return null;
         }
-        if (teacher.getRealName() != null && !teacher.getRealName().isBlank()) {
-            return teacher.getRealName();
+        return "%" + keyword.trim().toLowerCase(Locale.ROOT) + "%";
+    }
+
+    private String resolveTeacherName(String realName, String username, String accountNo) {
+        if (realName != null && !realName.isBlank()) {
+            return realName;
         }
-        if (teacher.getUsername() != null && !teacher.getUsername().isBlank()) {
-            return teacher.getUsername();
+        if (username != null && !username.isBlank()) {
+            return username;
         }
-        return teacher.getAccountNo();
+        return accountNo;
     }
 
     private void applyApplicationSkills(TeacherApplication application,
@@ -0,0 +1,193 @@
+package com.competition.service;
+
+import com.competition.event.StateTransitionEvent;
+import com.competition.event.TeamDiscussionPostEvent;
+import com.competition.event.TeamMemberLeftEvent;
+import com.competition.utils.KeysetCursor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * In-process pub/sub for the team discussion SSE feed.
+ * Teams without subscribers have no entry and cost nothing. Each subscriber gets a bounded queue drained
+ * by a small shared pool, so a slow client never blocks the publisher; a subscriber whose queue overflows
+ * is disconnected and is expected to reconnect and catch up via /posts/page?since=.
+ * Access is checked when subscribing only; a user who leaves or is removed from the team, or whose team is
+ * disbanded, has the feed closed so the reconnect goes through the access check again.
+ */
+@Service
+@Slf4j
+public class TeamDiscussionFeedService implements MeterBinder {
+
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+    private static final int QUEUE_CAPACITY = 64;
+    private static final int DISPATCH_THREADS = 2;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher = Executors.newFixedThreadPool(DISPATCH_THREADS, newThreadFactory());
+
+    /**
+     * Register a subscriber. Access to the team must be checked by the caller beforehand.
+     */
+    public SseEmitter subscribe(Long teamId, Long userId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        Subscriber subscriber = new Subscriber(teamId, userId, emitter);
+        // compute() so the add cannot race with remove() dropping an emptied set.
+        subscribers.compute(teamId, (key, set) -> {
+            Set<Subscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(ex -> remove(subscriber));
+        try {
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException ex) {
+            remove(subscriber);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostEvent(TeamDiscussionPostEvent event) {
+        Set<Subscriber> teamSubscribers = subscribers.get(event.getTeamId());
+        if (teamSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : teamSubscribers) {
+            if (!subscriber.queue.offer(event)) {
+                log.info("discussion feed subscriber too slow, disconnecting, teamId={}", event.getTeamId());
+                remove(subscriber);
+                subscriber.emitter.complete();
+                continue;
+            }
+            if (subscriber.draining.compareAndSet(false, true)) {
+                dispatcher.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMemberLeft(TeamMemberLeftEvent event) {
+        close(event.getTeamId(), subscriber -> subscriber.userId.equals(event.getUserId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTeamTransition(StateTransitionEvent event) {
+        if (event.getEntityType() == StateTransitionEvent.EntityType.TEAM
+                && event.getAction() == StateTransitionEvent.Action.DISBAND) {
+            close(event.getTeamId(), subscriber -> true);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(dispatcher, "team-discussion-feed", Tags.empty()).bindTo(registry);
+        Gauge.builder("app.discussion.feed.subscribers", subscribers,
+                        map -> map.values().stream().mapToInt(Set::size).sum())
+                .description("Open team discussion SSE connections")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            TeamDiscussionPostEvent event = subscriber.queue.poll();
+            if (event == null) {
+                subscriber.draining.set(false);
+                // An event may have been queued after poll() but before the flag was cleared.
+                if (subscriber.queue.isEmpty() || !subscriber.draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                        .name(event.getType().name().toLowerCase())
+                        .data(event, MediaType.APPLICATION_JSON);
+                if (event.getPost() != null) {
+                    builder.id(KeysetCursor.of(event.getPost().getCreatedAt(), event.getPostId()).encode());
+                }
+                subscriber.emitter.send(builder);
+            } catch (IOException | IllegalStateException ex) {
+                remove(subscriber);
+                subscriber.queue.clear();
+                return;
+            }
+        }
+    }
+
+    private void close(Long teamId, Predicate<Subscriber> filter) {
+        Set<Subscriber> teamSubscribers = subscribers.get(teamId);
+        if (teamSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : teamSubscribers) {
+            if (filter.test(subscriber)) {
+                remove(subscriber);
+                subscriber.queue.clear();
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.teamId, (teamId, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static ThreadFactory newThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "discussion-feed-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Subscriber {
+        private final Long teamId;
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<TeamDiscussionPostEvent> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(Long teamId, Long userId, SseEmitter emitter) {
+            this.teamId = teamId;
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+    }
+}
@@ -1,21 +1,29 @@
 package com.competition.service;
 
+import com.competition.dto.CursorPageResponse;
 import com.competition.dto.TeamDiscussionPostCreateRequest;
 import com.competition.dto.TeamDiscussionPostResponse;
 import com.competition.entity.Team;
 import com.competition.entity.TeamDiscussionPost;
 import com.competition.entity.User;
+import com.competition.event.TeamDiscussionPostEvent;
 import com.competition.exception.ApiException;
 import com.competition.repository.TeamDiscussionPostRepository;
 import com.competition.repository.TeamMemberRepository;
 import com.competition.repository.TeamRepository;
 import com.competition.repository.UserRepository;
+import com.competition.utils.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,10 +32,17 @@ import java.util.stream.Collectors;
 @Transactional
 public class TeamDiscussionPostService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    // created_at is taken before the insert commits, so a slow transaction can commit a post older than one a
+    // poller already read. Polls re-send this much history behind the cursor; clients dedupe by id.
+    private static final Duration SINCE_OVERLAP = Duration.ofSeconds(10);
+
     private final TeamDiscussionPostRepository teamDiscussionPostRepository;
     private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<TeamDiscussionPostResponse> listPosts(Long currentUserId, Long teamId) {
@@ -45,6 +60,58 @@ public class TeamDiscussionPostService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Oldest-first page of at most {@code size} posts after {@code since}. Without a cursor it starts at the
+     * first post. With {@code overlap} (head polls, not forward paging) the page starts with up to half of
+     * {@code size} posts from the last {@link #SINCE_OVERLAP} before the cursor, already seen ones included,
+     * so items must be deduplicated by id; the new posts fill the rest. The cursor only advances over the
+     * new posts, so paging still terminates.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TeamDiscussionPostResponse> listPostsPage(Long currentUserId, Long teamId,
+                                                                        String since, Integer size, boolean overlap) {
+        Team team = loadTeam(teamId);
+        if (team.getStatus() == Team.TeamStatus.DISBANDED) {
+            throw new ApiException(HttpStatus.CONFLICT, "team is disbanded");
+        }
+        User currentUser = loadUser(currentUserId);
+        enforceTeamAccess(currentUser, team);
+
+        int limit = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor cursor = KeysetCursor.decode(since);
+        List<TeamDiscussionPost> items = new ArrayList<>();
+        if (cursor != null && overlap && limit > 1) {
+            items.addAll(teamDiscussionPostRepository.findWindowUpTo(teamId,
+                    cursor.getCreatedAt().minus(SINCE_OVERLAP), cursor.getCreatedAt(), cursor.getId(),
+                    PageRequest.of(0, limit / 2)));
+            Collections.reverse(items);
+        }
+
+        int rowLimit = limit - items.size();
+        // Fetch one extra row to learn whether another page exists without a count query.
+        PageRequest pageRequest = PageRequest.of(0, rowLimit + 1);
+        List<TeamDiscussionPost> rows = cursor == null
+                ? teamDiscussionPostRepository.findFirstPage(teamId, pageRequest)
+                : teamDiscussionPostRepository.findPageAfter(teamId, cursor.getCreatedAt(), cursor.getId(), pageRequest);
+
+        boolean hasMore = rows.size() > rowLimit;
+        if (hasMore) {
+            rows = rows.subList(0, rowLimit);
+        }
+        items.addAll(rows);
+
+        CursorPageResponse<TeamDiscussionPostResponse> page = new CursorPageResponse<>();
+        page.setItems(items.stream().map(this::toResponse).collect(Collectors.toList()));
+        page.setHasMore(hasMore);
+        if (rows.isEmpty()) {
+            page.setNextCursor(cursor == null ? null : cursor.encode());
+        } else {
+            TeamDiscussionPost last = rows.get(rows.size() - 1);
+            page.setNextCursor(KeysetCursor.of(last.getCreatedAt(), last.getId()).encode());
+        }
+        return page;
+    }
+
     public TeamDiscussionPostResponse createPost(Long currentUserId, Long teamId, TeamDiscussionPostCreateRequest req) {
         if (req == null) {
             throw new ApiException(HttpStatus.BAD_REQUEST, "content is required");
@@ -82,7 +149,22 @@ public class TeamDiscussionPostService {
         if (parent != null && saved.getParentPost() == null) {
             saved.setParentPost(parent);
         }
-        return toResponse(saved);
+        TeamDiscussionPostResponse response = toResponse(saved);
+        eventPublisher.publishEvent(TeamDiscussionPostEvent.created(response));
+        return response;
+    }
+
+    /**
+     * Same checks as listPosts, done once when a feed connection is opened instead of on every poll.
+     */
+    @Transactional(readOnly = true)
+    public void checkFeedAccess(Long currentUserId, Long teamId) {
+        Team team = loadTeam(teamId);
+        if (team.getStatus() == Team.TeamStatus.DISBANDED) {
+            throw new ApiException(HttpStatus.CONFLICT, "team is disbanded");
+        }
+        User currentUser = loadUser(currentUserId);
+        enforceTeamAccess(currentUser, team);
     }
 
     public void deletePost(Long currentUserId, Long teamId, Long postId) {
@@ -103,22 +185,30 @@ public class TeamDiscussionPostService {
 
         enforceDeleteAccess(currentUser, team, post);
 
-        LocalDateTime now = LocalDateTime.now();
-        post.setDeletedAt(now);
-        post.setDeletedBy(currentUser);
-        teamDiscussionPostRepository.save(post);
-
-        if (post.getParentPost() == null) {
-            List<TeamDiscussionPost> replies = teamDiscussionPostRepository
-                    .findByParentPost_IdAndDeletedAtIsNull(post.getId());
-            if (!replies.isEmpty()) {
-                replies.forEach(reply -> {
-                    reply.setDeletedAt(now);
-                    reply.setDeletedBy(currentUser);
-                });
-                teamDiscussionPostRepository.saveAll(replies);
-            }
+        teamDiscussionPostRepository.softDeleteThread(post.getId(), currentUser, LocalDateTime.now());
+        eventPublisher.publishEvent(TeamDiscussionPostEvent.deleted(teamId, post.getId(),
+                post.getParentPost() != null ? post.getParentPost().getId() : null));
+    }
+
+    /**
+     * Admin cleanup for a disbanded team: soft-delete (purge=false) or physically remove all of its posts.
+     * Runs as at most two statements regardless of post count. Returns the number of rows affected.
+     */
+    public int adminDeleteTeamPosts(Long adminUserId, Long teamId, boolean purge) {
+        User admin = loadUser(adminUserId);
+        if (admin.getRole() != User.Role.ADMIN) {
+            throw new ApiException(HttpStatus.FORBIDDEN, "only ADMIN can bulk delete posts");
+        }
+        Team team = loadTeam(teamId);
+        if (team.getStatus() != Team.TeamStatus.DISBANDED) {
+            throw new ApiException(HttpStatus.CONFLICT, "team is not disbanded");
+        }
+
+        if (purge) {
+            return teamDiscussionPostRepository.purgeRepliesByTeamId(teamId)
+                    + teamDiscussionPostRepository.purgeByTeamId(teamId);
         }
+        return teamDiscussionPostRepository.softDeleteByTeamId(teamId, admin, LocalDateTime.now());
     }
 
     private Team loadTeam(Long teamId) {
@@ -13,22 +13,34 @@ import com.competition.entity.TeamMember;
 import com.competition.entity.TeamSkill;
 import com.competition.entity.User;
 import com.competition.repository.ApplicationRepository;
+import com.competition.repository.CompetitionRepository;
 import com.competition.exception.ApiException;
 import com.competition.repository.TeamAwardRepository;
 import com.competition.repository.TeamMemberRepository;
 import com.competition.repository.TeamRepository;
 import com.competition.repository.TeamSkillRepository;
 import com.competition.repository.UserRepository;
+import com.competition.repository.projection.TeamMemberCount;
+import com.competition.event.StateTransitionEvent;
+import com.competition.event.TeamMemberLeftEvent;
+import com.competition.event.UserHonorsChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -42,11 +54,13 @@ public class TeamService {
     private final ApplicationRepository applicationRepository;
     private final TeamAwardRepository teamAwardRepository;
     private final TeamSkillRepository teamSkillRepository;
+    private final CompetitionRepository competitionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Page<TeamDTO> getTeams(Pageable pageable) {
         Page<Team> teams = teamRepository.findAll(pageable);
-        return teams.map(this::convertToDTO);
+        return new PageImpl<>(convertToDTOs(teams.getContent()), pageable, teams.getTotalElements());
     }
 
     @Transactional(readOnly = true)
@@ -96,6 +110,9 @@ public class TeamService {
         leaderMember.setTeam(savedTeam);
         leaderMember.setUser(leader);
         teamMemberRepository.save(leaderMember);
+        eventPublisher.publishEvent(UserHonorsChangedEvent.of(leader.getId()));
+        eventPublisher.publishEvent(StateTransitionEvent.team(savedTeam.getId(), StateTransitionEvent.Action.CREATE,
+                null, Team.TeamStatus.RECRUITING, leader.getId(), null));
 
         return convertToDTO(savedTeam);
     }
@@ -151,10 +168,13 @@ public class TeamService {
         member.setTeam(team);
         member.setUser(user);
         teamMemberRepository.save(member);
+        eventPublisher.publishEvent(UserHonorsChangedEvent.of(userId));
 
         if (maxSize != null && currentMembers + 1 >= maxSize) {
             team.setStatus(Team.TeamStatus.CLOSED);
             teamRepository.save(team);
+            eventPublisher.publishEvent(StateTransitionEvent.team(teamId, StateTransitionEvent.Action.CLOSE,
+                    Team.TeamStatus.RECRUITING, Team.TeamStatus.CLOSED, userId, "team full"));
         }
     }
 
@@ -171,6 +191,8 @@ public class TeamService {
         }
 
         teamMemberRepository.delete(member);
+        eventPublisher.publishEvent(UserHonorsChangedEvent.of(userId));
+        eventPublisher.publishEvent(new TeamMemberLeftEvent(teamId, userId));
 
         Integer maxSize = team.getCompetition() != null ? team.getCompetition().getMaxTeamSize() : null;
         if (team.getStatus() == Team.TeamStatus.CLOSED) {
@@ -178,6 +200,8 @@ public class TeamService {
             if (maxSize == null || currentMembers < maxSize) {
                 team.setStatus(Team.TeamStatus.RECRUITING);
                 teamRepository.save(team);
+                eventPublisher.publishEvent(StateTransitionEvent.team(teamId, StateTransitionEvent.Action.REOPEN,
+                        Team.TeamStatus.CLOSED, Team.TeamStatus.RECRUITING, userId, "member left"));
             }
         }
     }
@@ -203,24 +227,30 @@ public class TeamService {
             }
         }
 
+        Team.TeamStatus previousStatus = team.getStatus();
         team.setStatus(Team.TeamStatus.CLOSED);
         team.setClosedAt(LocalDateTime.now());
         team.setClosedBy(currentUser);
         team.setUpdatedAt(LocalDateTime.now());
         Team saved = teamRepository.save(team);
+        eventPublisher.publishEvent(StateTransitionEvent.team(teamId, StateTransitionEvent.Action.CLOSE,
+                previousStatus, Team.TeamStatus.CLOSED, currentUserId, null));
 
         return convertToDTO(saved);
     }
 
-    public TeamDTO disbandTeamByAdmin(Long teamId) {
+    public TeamDTO disbandTeamByAdmin(Long adminUserId, Long teamId) {
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "队伍不存在"));
         if (team.getStatus() == Team.TeamStatus.DISBANDED) {
             throw new ApiException(HttpStatus.CONFLICT, "队伍已解散");
         }
+        Team.TeamStatus previousStatus = team.getStatus();
         team.setStatus(Team.TeamStatus.DISBANDED);
         team.setUpdatedAt(LocalDateTime.now());
         Team saved = teamRepository.save(team);
+        eventPublisher.publishEvent(StateTransitionEvent.team(teamId, StateTransitionEvent.Action.DISBAND,
+                previousStatus, Team.TeamStatus.DISBANDED, adminUserId, null));
         return convertToDTO(saved);
     }
 
@@ -254,6 +284,8 @@ public class TeamService {
         LocalDateTime now = LocalDateTime.now();
         member.setLeftAt(now);
         teamMemberRepository.save(member);
+        eventPublisher.publishEvent(UserHonorsChangedEvent.of(userId));
+        eventPublisher.publishEvent(new TeamMemberLeftEvent(teamId, userId));
 
         if (team.getStatus() == Team.TeamStatus.CLOSED && team.getCompetition() != null) {
             Integer minSize = team.getCompetition().getMinTeamSize();
@@ -262,6 +294,8 @@ public class TeamService {
                 if (remainingCount < minSize) {
                     team.setStatus(Team.TeamStatus.DISBANDED);
                     teamRepository.save(team);
+                    eventPublisher.publishEvent(StateTransitionEvent.team(teamId, StateTransitionEvent.Action.DISBAND,
+                            Team.TeamStatus.CLOSED, Team.TeamStatus.DISBANDED, currentUserId, "below minimum team size"));
                 }
             }
         }
@@ -287,6 +321,9 @@ public class TeamService {
             } catch (DataIntegrityViolationException ex) {
                 throw new ApiException(HttpStatus.CONFLICT, "application state conflict, please retry");
             }
+            eventPublisher.publishEvent(StateTransitionEvent.application(application.getId(), teamId,
+                    StateTransitionEvent.Action.REMOVE, Application.Status.APPROVED, Application.Status.REMOVED,
+                    currentUserId, reason));
         }
     }
 
@@ -319,9 +356,7 @@ public class TeamService {
         } else {
             teams = teamRepository.findByKeyword(trimmed.toLowerCase());
         }
-        return teams.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(teams);
     }
 
     @Transactional(readOnly = true)
@@ -345,9 +380,7 @@ public class TeamService {
             teams = teamRepository.findByLeaderIdAndNameContainingIgnoreCase(currentUserId, trimmed);
         }
 
-        return teams.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(teams);
     }
 
     @Transactional(readOnly = true)
@@ -382,6 +415,49 @@ public class TeamService {
     }
 
     private TeamDTO convertToDTO(Team team) {
+        return convertToDTOs(List.of(team)).get(0);
+    }
+
+    /**
+     * Leaders, competitions, member counts and skills are loaded for the whole list at once
+     * (four queries), not per team.
+     */
+    private List<TeamDTO> convertToDTOs(List<Team> teams) {
+        if (teams.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> teamIds = teams.stream().map(Team::getId).collect(Collectors.toSet());
+        Map<Long, User> leaders = userRepository.findAllById(teams.stream()
+                        .filter(team -> team.getLeader() != null)
+                        .map(team -> team.getLeader().getId())
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Competition> competitions = competitionRepository.findAllById(teams.stream()
+                        .filter(team -> team.getCompetition() != null)
+                        .map(team -> team.getCompetition().getId())
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Competition::getId, Function.identity()));
+        Map<Long, Long> memberCounts = teamMemberRepository.countByTeamIds(teamIds).stream()
+                .collect(Collectors.toMap(TeamMemberCount::getTeamId, TeamMemberCount::getMemberCount));
+        Map<Long, List<TeamSkill>> skillsByTeam = new HashMap<>();
+        for (TeamSkill skill : teamSkillRepository.findWithSkillByTeamIds(teamIds)) {
+            skillsByTeam.computeIfAbsent(skill.getTeam().getId(), id -> new ArrayList<>()).add(skill);
+        }
+
+        List<TeamDTO> dtos = new ArrayList<>(teams.size());
+        for (Team team : teams) {
+            User leader = team.getLeader() != null ? leaders.get(team.getLeader().getId()) : null;
+            Competition competition = team.getCompetition() != null
+                    ? competitions.get(team.getCompetition().getId())
+                    : null;
+            dtos.add(convertToDTO(team, leader, competition, memberCounts.getOrDefault(team.getId(), 0L),
+                    skillsByTeam.getOrDefault(team.getId(), List.of())));
+        }
+        return dtos;
+    }
+
+    private TeamDTO convertToDTO(Team team, User leader, Competition competition, long memberCount,
+                                 List<TeamSkill> skills) {
         TeamDTO dto = new TeamDTO();
         dto.setId(team.getId());
         dto.setName(team.getName());
@@ -389,21 +465,19 @@ public class TeamService {
         dto.setStatus(team.getStatus());
         dto.setCreatedAt(team.getCreatedAt());
 
-        Integer maxSize = team.getCompetition() != null ? team.getCompetition().getMaxTeamSize() : null;
+        Integer maxSize = competition != null ? competition.getMaxTeamSize() : null;
         dto.setMaxMembers(maxSize);
-        int currentMemberCount = team.getTeamMembers() != null ? team.getTeamMembers().size() : 0;
-        dto.setCurrentMembers(currentMemberCount);
+        dto.setCurrentMembers((int) memberCount);
 
-        if (team.getLeader() != null) {
-            dto.setLeader(convertUserToDTO(team.getLeader()));
+        if (leader != null) {
+            dto.setLeader(convertUserToDTO(leader));
         }
 
-        if (team.getCompetition() != null) {
-            dto.setCompetition(convertCompetitionToDTO(team.getCompetition()));
+        if (competition != null) {
+            dto.setCompetition(convertCompetitionToDTO(competition));
         }
 
-        List<TeamSkill> skills = teamSkillRepository.findByTeam_Id(team.getId());
-        if (skills != null && !skills.isEmpty()) {
+        if (!skills.isEmpty()) {
             List<TeamSkillDTO> skillDtos = skills.stream()
                     .map(skill -> {
                         TeamSkillDTO skillDto = new TeamSkillDTO();
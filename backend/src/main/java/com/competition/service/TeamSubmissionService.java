@@ -1,31 +1,44 @@
 package com.competition.service;
 
+import com.competition.dto.SubmissionUploadCreateRequest;
+import com.competition.dto.SubmissionUploadSessionResponse;
 import com.competition.dto.TeamSubmissionResponse;
+import com.competition.entity.SubmissionUploadSession;
 import com.competition.entity.Team;
 import com.competition.entity.TeamSubmission;
 import com.competition.entity.User;
 import com.competition.exception.ApiException;
+import com.competition.repository.SubmissionUploadSessionRepository;
 import com.competition.repository.TeamMemberRepository;
 import com.competition.repository.TeamRepository;
 import com.competition.repository.TeamSubmissionRepository;
 import com.competition.repository.UserRepository;
+import com.competition.repository.projection.UploadSessionState;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,13 +47,22 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TeamSubmissionService {
 
-    @Value("${app.upload-dir:uploads}")
-    private String uploadDir;
-
     private final TeamSubmissionRepository teamSubmissionRepository;
     private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final UserRepository userRepository;
+    private final SubmissionBlobService submissionBlobService;
+    private final SubmissionUploadSessionRepository submissionUploadSessionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.upload.chunk-size:5242880}")
+    private int chunkSize;
+
+    @Value("${app.upload.max-size:2147483648}")
+    private long maxUploadSize;
+
+    @Value("${app.upload.session-ttl-hours:24}")
+    private long sessionTtlHours;
 
     @Transactional(rollbackFor = Exception.class)
     public TeamSubmissionResponse createSubmission(Long currentUserId, Long teamId, MultipartFile file, String remark) {
@@ -54,45 +76,232 @@ public class TeamSubmissionService {
         User currentUser = loadUser(currentUserId);
         enforceTeamAccess(currentUser, team);
 
-        Path baseDir = Paths.get(uploadDir, "teams", String.valueOf(teamId));
+        SubmissionBlobService.StoredBlob blob;
+        try (InputStream in = file.getInputStream()) {
+            blob = submissionBlobService.store(in);
+        } catch (IOException ex) {
+            log.error("file read failed, teamId={}", teamId, ex);
+            throw new ApiException(HttpStatus.INTERNAL_SERVER_ERROR, "file save failed");
+        }
+
+        return toResponse(recordSubmission(team, currentUser, blob, file.getOriginalFilename(), remark));
+    }
+
+    /**
+     * Start a chunked upload. The client sends chunks of {@code chunkSize} bytes (the last one may be
+     * shorter) in any order, can query which chunks are still missing, and finalizes once all arrived.
+     */
+    public SubmissionUploadSessionResponse createUploadSession(Long currentUserId, Long teamId,
+                                                               SubmissionUploadCreateRequest request) {
+        Team team = loadTeam(teamId);
+        if (team.getStatus() == Team.TeamStatus.DISBANDED) {
+            throw new ApiException(HttpStatus.CONFLICT, "team is disbanded");
+        }
+        User currentUser = loadUser(currentUserId);
+        enforceTeamAccess(currentUser, team);
+        if (request.getTotalSize() > maxUploadSize) {
+            throw new ApiException(HttpStatus.PAYLOAD_TOO_LARGE, "file too large");
+        }
+
+        SubmissionUploadSession session = new SubmissionUploadSession();
+        session.setId(UUID.randomUUID().toString());
+        session.setTeamId(teamId);
+        session.setUploadedBy(currentUserId);
+        session.setFileName(Paths.get(request.getFileName()).getFileName().toString());
+        session.setRemark(request.getRemark());
+        session.setTotalSize(request.getTotalSize());
+        session.setChunkSize(chunkSize);
+        session.setStatus(SubmissionUploadSession.Status.OPEN);
+        session.setExpiresAt(LocalDateTime.now().plusHours(sessionTtlHours));
+
+        // Pre-size the staging file; unwritten regions stay sparse on filesystems that support it.
+        Path staged = submissionBlobService.stagingPath(session.getId());
         try {
-            Files.createDirectories(baseDir);
+            Files.createDirectories(staged.getParent());
+            try (RandomAccessFile raf = new RandomAccessFile(staged.toFile(), "rw")) {
+                raf.setLength(session.getTotalSize());
+            }
         } catch (IOException ex) {
-            log.error("file dir create failed, teamId={}, baseDir={}", teamId, baseDir, ex);
+            log.error("staging file create failed, uploadId={}", session.getId(), ex);
             throw new ApiException(HttpStatus.INTERNAL_SERVER_ERROR, "file save failed");
         }
 
-        String original = file.getOriginalFilename();
-        String ext = "";
-        if (original != null && original.contains(".")) {
-            ext = original.substring(original.lastIndexOf("."));
+        return toUploadResponse(submissionUploadSessionRepository.save(session));
+    }
+
+    @Transactional(readOnly = true)
+    public SubmissionUploadSessionResponse getUploadSession(Long currentUserId, Long teamId, String uploadId) {
+        return toUploadResponse(loadUploadSession(currentUserId, teamId, uploadId));
+    }
+
+    /**
+     * Write one chunk at its offset. Runs without a surrounding transaction so no database connection
+     * is held while the body streams in. Before streaming, the chunk is marked as being written under
+     * the session row lock, so it cannot start once completion has claimed the session, and completion
+     * cannot claim the session while a chunk is still missing its received_at. Each write carries its
+     * own token: when the same chunk is re-sent while an earlier write is still streaming, only the
+     * latest write marks it received, so the older one finishing cannot let completion start early.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SubmissionUploadSessionResponse writeChunk(Long currentUserId, Long teamId, String uploadId,
+                                                      long offset, long contentLength, InputStream body) {
+        SubmissionUploadSession session = loadUploadSession(currentUserId, teamId, uploadId);
+        requireOpen(session);
+
+        if (offset < 0 || offset % session.getChunkSize() != 0 || offset >= session.getTotalSize()) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "invalid chunk offset");
+        }
+        int chunkIndex = (int) (offset / session.getChunkSize());
+        long expected = Math.min(session.getChunkSize(), session.getTotalSize() - offset);
+        if (contentLength >= 0 && contentLength != expected) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "chunk length must be " + expected);
         }
-        String storedName = System.currentTimeMillis() + "_" + UUID.randomUUID() + ext;
 
-        Path target = baseDir.resolve(storedName).normalize();
-        try (InputStream in = file.getInputStream()) {
-            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        String writeToken = UUID.randomUUID().toString();
+        transactionTemplate.executeWithoutResult(status -> {
+            requireOpen(session, lockUploadState(uploadId).getStatus());
+            submissionUploadSessionRepository.markChunkWriting(uploadId, chunkIndex, writeToken);
+        });
+
+        Path staged = submissionBlobService.stagingPath(uploadId);
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(staged, StandardOpenOption.WRITE)) {
+            byte[] buffer = new byte[64 * 1024];
+            ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+            int read;
+            while (written < expected
+                    && (read = body.read(buffer, 0, (int) Math.min(buffer.length, expected - written))) != -1) {
+                wrapped.clear().limit(read);
+                while (wrapped.hasRemaining()) {
+                    written += channel.write(wrapped, offset + written);
+                }
+            }
+            if (written != expected || body.read() != -1) {
+                throw new ApiException(HttpStatus.BAD_REQUEST, "chunk length must be " + expected);
+            }
         } catch (IOException ex) {
-            log.error("file save failed, teamId={}, target={}", teamId, target, ex);
+            log.error("chunk write failed, uploadId={}, chunk={}", uploadId, chunkIndex, ex);
             throw new ApiException(HttpStatus.INTERNAL_SERVER_ERROR, "file save failed");
         }
 
-        teamSubmissionRepository.clearCurrentByTeamId(teamId);
+        if (submissionUploadSessionRepository.markChunkReceived(uploadId, chunkIndex, writeToken) == 0) {
+            log.debug("chunk superseded by a newer write, uploadId={}, chunk={}", uploadId, chunkIndex);
+        }
+        return toUploadResponse(session);
+    }
+
+    /**
+     * Finalize a chunked upload into a regular submission. Retrying after success returns the same
+     * submission instead of creating a second one.
+     * <p>
+     * Runs in three steps so no transaction spans the file hash: claim the session (OPEN -> COMPLETING)
+     * under its row lock, publish the staging file into the blob store, then record the submission and
+     * mark the session COMPLETED under the lock again. The staging file is removed only after that
+     * commits, so a failed attempt leaves the session COMPLETING with its file intact and a retry
+     * finishes it; no chunk write can start once the session left OPEN.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TeamSubmissionResponse completeUpload(Long currentUserId, Long teamId, String uploadId) {
+        TeamSubmissionResponse completed = transactionTemplate.execute(
+                status -> claimCompletion(currentUserId, teamId, uploadId));
+        if (completed != null) {
+            return completed;
+        }
+
+        Path staged = submissionBlobService.stagingPath(uploadId);
+        SubmissionBlobService.StoredBlob blob;
+        try {
+            blob = submissionBlobService.publishStaged(staged);
+        } catch (ApiException ex) {
+            // A concurrent retry may have finished and removed the staging file first.
+            TeamSubmissionResponse raced = transactionTemplate.execute(
+                    status -> claimCompletion(currentUserId, teamId, uploadId));
+            if (raced != null) {
+                return raced;
+            }
+            throw ex;
+        }
+
+        TeamSubmissionResponse response = transactionTemplate.execute(
+                status -> finishCompletion(currentUserId, teamId, uploadId, blob));
+        try {
+            Files.deleteIfExists(staged);
+        } catch (IOException ex) {
+            log.warn("staging file cleanup failed, uploadId={}", uploadId, ex);
+        }
+        return response;
+    }
+
+    /**
+     * Returns the existing submission if the session is already completed, otherwise checks it is
+     * complete and moves it to COMPLETING and returns null. A COMPLETING session is a retry of an
+     * attempt that failed or is still running; both end up recording at most one submission.
+     */
+    private TeamSubmissionResponse claimCompletion(Long currentUserId, Long teamId, String uploadId) {
+        SubmissionUploadSession session = loadUploadSession(currentUserId, teamId, uploadId);
+        UploadSessionState state = lockUploadState(uploadId);
+        if (state.getStatus() == SubmissionUploadSession.Status.COMPLETED) {
+            return completedSubmission(state.getSubmissionId());
+        }
+        if (state.getStatus() == SubmissionUploadSession.Status.OPEN) {
+            requireOpen(session, state.getStatus());
+            int received = submissionUploadSessionRepository.findReceivedChunkIndexes(uploadId).size();
+            if (received < session.getChunkCount()) {
+                throw new ApiException(HttpStatus.CONFLICT, "upload incomplete");
+            }
+        }
+
+        Team team = loadTeam(teamId);
+        if (team.getStatus() == Team.TeamStatus.DISBANDED) {
+            throw new ApiException(HttpStatus.CONFLICT, "team is disbanded");
+        }
+        enforceTeamAccess(loadUser(currentUserId), team);
+
+        submissionUploadSessionRepository.markCompleting(uploadId);
+        return null;
+    }
+
+    private TeamSubmissionResponse finishCompletion(Long currentUserId, Long teamId, String uploadId,
+                                                    SubmissionBlobService.StoredBlob blob) {
+        SubmissionUploadSession session = loadUploadSession(currentUserId, teamId, uploadId);
+        UploadSessionState state = lockUploadState(uploadId);
+        if (state.getStatus() == SubmissionUploadSession.Status.COMPLETED) {
+            return completedSubmission(state.getSubmissionId());
+        }
+
+        submissionBlobService.acquireReference(blob);
+        TeamSubmission saved = recordSubmission(loadTeam(teamId), loadUser(currentUserId), blob,
+                session.getFileName(), session.getRemark());
+
+        submissionUploadSessionRepository.markCompleted(uploadId, saved.getId());
+        submissionUploadSessionRepository.deleteChunks(uploadId);
+        return toResponse(saved);
+    }
+
+    private TeamSubmissionResponse completedSubmission(Long submissionId) {
+        return teamSubmissionRepository.findById(submissionId)
+                .map(this::toResponse)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "submission not found"));
+    }
+
+    private TeamSubmission recordSubmission(Team team, User submitter, SubmissionBlobService.StoredBlob blob,
+                                            String originalName, String remark) {
+        teamSubmissionRepository.clearCurrentByTeamId(team.getId());
 
         TeamSubmission submission = new TeamSubmission();
         submission.setTeam(team);
         submission.setCompetition(team.getCompetition());
-        submission.setSubmittedBy(currentUser);
-        submission.setFileName(original == null || original.isBlank()
-                ? storedName
-                : Paths.get(original).getFileName().toString());
-        submission.setFileUrl("/files/teams/" + teamId + "/" + storedName);
+        submission.setSubmittedBy(submitter);
+        submission.setFileName(originalName == null || originalName.isBlank()
+                ? blob.getContentHash()
+                : Paths.get(originalName).getFileName().toString());
+        submission.setFileUrl(blob.getFileUrl());
+        submission.setContentHash(blob.getContentHash());
+        submission.setFileSize(blob.getSizeBytes());
         submission.setRemark(remark);
         submission.setSubmittedAt(LocalDateTime.now());
         submission.setIsCurrent(true);
-
-        TeamSubmission saved = teamSubmissionRepository.save(submission);
-        return toResponse(saved);
+        return teamSubmissionRepository.save(submission);
     }
 
     @Transactional(readOnly = true)
@@ -118,6 +327,40 @@ public class TeamSubmissionService {
         return toResponse(submission);
     }
 
+    private SubmissionUploadSession loadUploadSession(Long currentUserId, Long teamId, String uploadId) {
+        SubmissionUploadSession session = submissionUploadSessionRepository.findById(uploadId)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "upload not found"));
+        if (!session.getTeamId().equals(teamId)) {
+            throw new ApiException(HttpStatus.NOT_FOUND, "upload not found");
+        }
+        if (!session.getUploadedBy().equals(currentUserId)) {
+            throw new ApiException(HttpStatus.FORBIDDEN, "not upload owner");
+        }
+        return session;
+    }
+
+    /**
+     * Lock the session row and read its status from the database: the entity loaded earlier in the
+     * request may be stale, since the persistence context stays open for the whole request.
+     */
+    private UploadSessionState lockUploadState(String uploadId) {
+        return submissionUploadSessionRepository.lockState(uploadId)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "upload not found"));
+    }
+
+    private void requireOpen(SubmissionUploadSession session) {
+        requireOpen(session, session.getStatus());
+    }
+
+    private void requireOpen(SubmissionUploadSession session, SubmissionUploadSession.Status status) {
+        if (status != SubmissionUploadSession.Status.OPEN) {
+            throw new ApiException(HttpStatus.CONFLICT, "upload already completed");
+        }
+        if (session.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new ApiException(HttpStatus.GONE, "upload expired");
+        }
+    }
+
     private Team loadTeam(Long teamId) {
         if (teamId == null) {
             throw new ApiException(HttpStatus.BAD_REQUEST, "teamId is required");
@@ -164,9 +407,38 @@ public class TeamSubmissionService {
         response.setSubmitterUsername(submission.getSubmittedBy() != null ? submission.getSubmittedBy().getUsername() : null);
         response.setFileName(submission.getFileName());
         response.setFileUrl(submission.getFileUrl());
+        response.setFileSize(submission.getFileSize());
+        response.setContentHash(submission.getContentHash());
         response.setRemark(submission.getRemark());
         response.setSubmittedAt(submission.getSubmittedAt());
         response.setIsCurrent(submission.getIsCurrent());
         return response;
     }
+
+    private SubmissionUploadSessionResponse toUploadResponse(SubmissionUploadSession session) {
+        SubmissionUploadSessionResponse response = new SubmissionUploadSessionResponse();
+        response.setUploadId(session.getId());
+        response.setTeamId(session.getTeamId());
+        response.setFileName(session.getFileName());
+        response.setTotalSize(session.getTotalSize());
+        response.setChunkSize(session.getChunkSize());
+        response.setChunkCount(session.getChunkCount());
+        response.setStatus(session.getStatus());
+        response.setSubmissionId(session.getSubmissionId());
+        response.setExpiresAt(session.getExpiresAt());
+
+        List<Integer> missing = new ArrayList<>();
+        if (session.getStatus() == SubmissionUploadSession.Status.OPEN) {
+            Set<Integer> received = new HashSet<>(
+                    submissionUploadSessionRepository.findReceivedChunkIndexes(session.getId()));
+            for (int i = 0; i < session.getChunkCount(); i++) {
+                if (!received.contains(i)) {
+                    missing.add(i);
+                }
+            }
+        }
+        response.setReceivedCount(session.getChunkCount() - missing.size());
+        response.setMissingChunks(missing);
+        return response;
+    }
 }
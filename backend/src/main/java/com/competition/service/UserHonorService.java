@@ -4,26 +4,90 @@ import com.competition.dto.AwardDetail;
 import com.competition.dto.UserHonorsResponse;
 import com.competition.entity.AwardRecipient;
 import com.competition.entity.TeamAward;
+import com.competition.event.UserHonorsChangedEvent;
 import com.competition.repository.AwardRecipientRepository;
 import com.competition.repository.TeamMemberRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Profile honors are served from one user_honor_summaries row. A change to a user's memberships or awards
+ * (UserHonorsChangedEvent) bumps the row's version and clears it in the same transaction; the next read
+ * rebuilds it from the aggregate queries and stores it only if no newer change arrived in the meantime.
+ * Runs read-write on purpose, so the rebuild reads the primary and never caches replica-stale data.
+ */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class UserHonorService {
 
     private static final Byte ACTIVE_FLAG = 1;
+    private static final TypeReference<List<AwardDetail>> AWARD_LIST = new TypeReference<List<AwardDetail>>() {
+    };
 
     private final TeamMemberRepository teamMemberRepository;
     private final AwardRecipientRepository awardRecipientRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
-    @Transactional(readOnly = true)
+    @Transactional
     public UserHonorsResponse getMyHonors(Long userId) {
+        List<Object[]> summary = jdbcTemplate.query(
+                "SELECT version, participation_count, award_count, awards_json FROM user_honor_summaries WHERE user_id = ?",
+                (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getInt(2), rs.getInt(3), rs.getString(4)},
+                userId);
+        Long version = summary.isEmpty() ? null : (Long) summary.get(0)[0];
+        if (!summary.isEmpty() && summary.get(0)[3] != null) {
+            Object[] row = summary.get(0);
+            try {
+                UserHonorsResponse response = new UserHonorsResponse();
+                response.setParticipationCount((Integer) row[1]);
+                response.setAwardCount((Integer) row[2]);
+                response.setAwards(objectMapper.readValue((String) row[3], AWARD_LIST));
+                cacheRequests("hit").increment();
+                return response;
+            } catch (JsonProcessingException ex) {
+                log.warn("Unreadable honors summary, rebuilding. userId={}", userId, ex);
+            }
+        }
+
+        cacheRequests("miss").increment();
+        UserHonorsResponse response = buildHonors(userId);
+        storeSummary(userId, version, response);
+        return response;
+    }
+
+    private Counter cacheRequests(String result) {
+        return Counter.builder("app.cache.requests")
+                .description("Reads served from a cached summary (hit) or rebuilt (miss)")
+                .tag("cache", "user-honors")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onHonorsChanged(UserHonorsChangedEvent event) {
+        // Upsert rather than update, so a first build still running for a user without a row cannot store stale data.
+        for (Long userId : event.getUserIds()) {
+            jdbcTemplate.update("INSERT INTO user_honor_summaries (user_id, version, updated_at) VALUES (?, 1, NOW()) " +
+                    "ON DUPLICATE KEY UPDATE version = version + 1, awards_json = NULL, updated_at = NOW()", userId);
+        }
+    }
+
+    private UserHonorsResponse buildHonors(Long userId) {
         long participationCount = teamMemberRepository.countDistinctTeamsByUserId(userId);
         long awardCount = awardRecipientRepository.countActiveAwardsByUserId(userId, ACTIVE_FLAG);
 
@@ -47,4 +111,26 @@ public class UserHonorService {
         response.setAwards(awards);
         return response;
     }
+
+    private void storeSummary(Long userId, Long version, UserHonorsResponse response) {
+        String awardsJson;
+        try {
+            awardsJson = objectMapper.writeValueAsString(response.getAwards());
+        } catch (JsonProcessingException ex) {
+            log.warn("Honors summary not cached, userId={}", userId, ex);
+            return;
+        }
+        if (version == null) {
+            // First build for this user. A concurrent first build may win the insert; it computed the same data.
+            jdbcTemplate.update("INSERT INTO user_honor_summaries " +
+                            "(user_id, version, participation_count, award_count, awards_json, updated_at) " +
+                            "VALUES (?, 0, ?, ?, ?, NOW()) ON DUPLICATE KEY UPDATE user_id = user_id",
+                    userId, response.getParticipationCount(), response.getAwardCount(), awardsJson);
+        } else {
+            // Compare-and-set on version: a change committed since our read wins over this rebuild.
+            jdbcTemplate.update("UPDATE user_honor_summaries SET participation_count = ?, award_count = ?, " +
+                            "awards_json = ?, updated_at = NOW() WHERE user_id = ? AND version = ?",
+                    response.getParticipationCount(), response.getAwardCount(), awardsJson, userId, version);
+        }
+    }
 }
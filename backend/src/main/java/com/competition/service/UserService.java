@@ -5,6 +5,7 @@ import com.competition.entity.Skill;
 import com.competition.entity.User;
 import com.competition.entity.UserSkill;
 import com.competition.repository.SkillRepository;
+import com.competition.repository.TeacherApplicationRepository;
 import com.competition.repository.UserRepository;
 import com.competition.repository.UserSkillRepository;
 import com.competition.utils.JwtUtils;
@@ -17,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -28,6 +30,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final UserSkillRepository userSkillRepository;
+    private final TeacherApplicationRepository teacherApplicationRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtils jwtUtils;
 
@@ -95,6 +98,7 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("用户不存在"));
 
+        boolean renamed = !Objects.equals(user.getRealName(), userDTO.getRealName());
         user.setRealName(userDTO.getRealName());
         user.setSchool(userDTO.getSchool());
         user.setMajor(userDTO.getMajor());
@@ -103,6 +107,11 @@ public class UserService {
         user.setAvatarUrl(userDTO.getAvatarUrl());
 
         User updatedUser = userRepository.save(user);
+        if (renamed && updatedUser.getRole() == User.Role.TEACHER) {
+            // The native refresh reads users.real_name, so the new name must be flushed first.
+            userRepository.flush();
+            teacherApplicationRepository.refreshSearchTextByTeacherId(userId);
+        }
         return convertToDTO(updatedUser);
     }
 
@@ -12,6 +12,10 @@ import java.util.Map;
 @Component
 public class JwtUtils {
 
+    private static final String SCOPE_CLAIM = "scope";
+    private static final String TEAM_STREAM_SCOPE = "team-stream";
+    private static final long STREAM_TOKEN_SECONDS = 60;
+
     @Value("${jwt.secret}")
     private String secret;
 
@@ -25,12 +29,45 @@ public class JwtUtils {
         return createToken(claims, username);
     }
 
+    /**
+     * Short-lived token for opening one team's discussion stream. EventSource cannot send an
+     * Authorization header, so the browser passes this in the query string instead of its login token;
+     * it is only good for that stream and is rejected everywhere else.
+     */
+    public String generateStreamToken(Long userId, String username, Long teamId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", userId);
+        claims.put("teamId", teamId);
+        claims.put(SCOPE_CLAIM, TEAM_STREAM_SCOPE);
+        return createToken(claims, username, STREAM_TOKEN_SECONDS);
+    }
+
+    public long getStreamTokenSeconds() {
+        return STREAM_TOKEN_SECONDS;
+    }
+
+    /**
+     * User id from a stream token issued for this team; throws if it is expired, forged or for another team.
+     */
+    public Long getUserIdFromStreamToken(String token, Long teamId) {
+        Claims claims = getAllClaimsFromToken(token);
+        if (!TEAM_STREAM_SCOPE.equals(claims.get(SCOPE_CLAIM))
+                || !teamId.toString().equals(String.valueOf(claims.get("teamId")))) {
+            throw new IllegalArgumentException("stream token not valid for this team");
+        }
+        return Long.valueOf(claims.get("userId").toString());
+    }
+
     private String createToken(Map<String, Object> claims, String subject) {
+        return createToken(claims, subject, expiration);
+    }
+
+    private String createToken(Map<String, Object> claims, String subject, long ttlSeconds) {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration * 1000))
+                .setExpiration(new Date(System.currentTimeMillis() + ttlSeconds * 1000))
                 .signWith(SignatureAlgorithm.HS512, secret)
                 .compact();
     }
@@ -64,6 +101,10 @@ public class JwtUtils {
 
     public Boolean validateToken(String token, String username) {
         final String tokenUsername = getUsernameFromToken(token);
+        // Scoped tokens (stream tokens) never authenticate regular requests.
+        if (getClaimFromToken(token, claims -> claims.get(SCOPE_CLAIM)) != null) {
+            return false;
+        }
         return (tokenUsername.equals(username) && !isTokenExpired(token));
     }
 }
\ No newline at end of file
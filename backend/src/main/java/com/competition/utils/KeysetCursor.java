@@ -0,0 +1,51 @@
+package com.competition.utils;
+
+import com.competition.exception.ApiException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque (createdAt, id) position for keyset pagination, encoded as URL-safe base64.
+ * The id breaks ties between rows written in the same instant.
+ */
+@Getter
+@RequiredArgsConstructor
+public class KeysetCursor {
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor of(LocalDateTime createdAt, Long id) {
+        return new KeysetCursor(createdAt, id);
+    }
+
+    /**
+     * Null or blank means "from the beginning"; anything malformed is a 400.
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            if (sep < 0) {
+                throw new ApiException(HttpStatus.BAD_REQUEST, "invalid cursor");
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.valueOf(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "invalid cursor");
+        }
+    }
+}
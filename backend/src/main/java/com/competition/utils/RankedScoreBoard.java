@@ -0,0 +1,162 @@
+package com.competition.utils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory leaderboard of non-negative integer scores.
+ * Entries are kept in a TreeSet ordered by score descending, then key, for top-N; a Fenwick tree indexed
+ * by score counts entries per score, so "rank of key" is an O(log maxScore) prefix sum instead of a scan.
+ * Ties share a rank (1, 2, 2, 4). Keys with score 0 are not on the board.
+ */
+public class RankedScoreBoard<K extends Comparable<K>> {
+
+    private final Map<K, Integer> scores = new HashMap<>();
+    private final TreeSet<Ranked<K>> ordered = new TreeSet<>((a, b) -> {
+        int byScore = Integer.compare(b.score, a.score);
+        return byScore != 0 ? byScore : a.key.compareTo(b.key);
+    });
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // counts[i] covers scores (i - lowbit(i), i]; index = score, score 0 is never stored.
+    private int[] counts = new int[64];
+
+    public void put(K key, int score) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = scores.remove(key);
+            if (previous != null) {
+                ordered.remove(new Ranked<>(key, previous, 0));
+                add(previous, -1);
+            }
+            if (score > 0) {
+                // Counted before it enters scores: grow() rebuilds from scores.
+                add(score, 1);
+                scores.put(key, score);
+                ordered.add(new Ranked<>(key, score, 0));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            scores.clear();
+            ordered.clear();
+            counts = new int[64];
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int score(K key) {
+        lock.readLock().lock();
+        try {
+            return scores.getOrDefault(key, 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Null when the key is not on the board.
+     */
+    public Ranked<K> rank(K key) {
+        lock.readLock().lock();
+        try {
+            Integer score = scores.get(key);
+            return score == null ? null : new Ranked<>(key, score, countAbove(score) + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Ranked<K>> top(int limit) {
+        lock.readLock().lock();
+        try {
+            List<Ranked<K>> result = new ArrayList<>(Math.min(limit, ordered.size()));
+            Iterator<Ranked<K>> it = ordered.iterator();
+            int rank = 0;
+            int previousScore = -1;
+            for (int position = 1; position <= limit && it.hasNext(); position++) {
+                Ranked<K> entry = it.next();
+                if (entry.score != previousScore) {
+                    rank = position;
+                    previousScore = entry.score;
+                }
+                result.add(new Ranked<>(entry.key, entry.score, rank));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return scores.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(int score, int delta) {
+        if (score >= counts.length) {
+            grow(score);
+        }
+        for (int i = score; i < counts.length; i += i & -i) {
+            counts[i] += delta;
+        }
+    }
+
+    private int countAbove(int score) {
+        return scores.size() - prefix(Math.min(score, counts.length - 1));
+    }
+
+    private int prefix(int score) {
+        int sum = 0;
+        for (int i = score; i > 0; i -= i & -i) {
+            sum += counts[i];
+        }
+        return sum;
+    }
+
+    // A Fenwick tree cannot simply be padded; rebuild it at the new size from the per-score totals.
+    private void grow(int score) {
+        int size = counts.length;
+        while (size <= score) {
+            size <<= 1;
+        }
+        int[] perScore = new int[size];
+        for (int value : scores.values()) {
+            perScore[value]++;
+        }
+        counts = Arrays.copyOf(perScore, size);
+        for (int i = 1; i < size; i++) {
+            int parent = i + (i & -i);
+            if (parent < size) {
+                counts[parent] += counts[i];
+            }
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Ranked<K> {
+        private final K key;
+        private final int score;
+        private final int rank;
+    }
+}
@@ -0,0 +1,19 @@
+-- Content-addressed blob store for team submissions (SubmissionBlobService).
+-- Submissions reference a blob by SHA-256; existing rows keep content_hash NULL and are served from file_url.
+-- Online DDL on MySQL 8; see h2/ for the portable variant.
+ALTER TABLE team_submissions
+    ADD COLUMN content_hash VARCHAR(64),
+    ADD COLUMN file_size BIGINT,
+    ALGORITHM=INSTANT;
+
+ALTER TABLE team_submissions
+    ADD INDEX idx_team_submissions_content_hash (content_hash),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+CREATE TABLE IF NOT EXISTS submission_blobs (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    size_bytes BIGINT NOT NULL,
+    storage_path VARCHAR(255) NOT NULL,
+    ref_count INT NOT NULL DEFAULT 0,
+    created_at DATETIME
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,25 @@
+-- Resumable chunked uploads (TeamSubmissionService.createUploadSession / writeChunk / completeUpload).
+-- One row per received chunk, so a client can ask which chunks are still missing after a reconnect.
+CREATE TABLE IF NOT EXISTS submission_upload_sessions (
+    id VARCHAR(36) PRIMARY KEY,
+    team_id BIGINT NOT NULL,
+    uploaded_by BIGINT NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    remark VARCHAR(255),
+    total_size BIGINT NOT NULL,
+    chunk_size INT NOT NULL,
+    status VARCHAR(20) DEFAULT 'OPEN',
+    submission_id BIGINT,
+    created_at DATETIME,
+    expires_at DATETIME NOT NULL,
+    KEY idx_submission_upload_sessions_expires (expires_at),
+    FOREIGN KEY (team_id) REFERENCES teams(id),
+    FOREIGN KEY (uploaded_by) REFERENCES users(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE IF NOT EXISTS submission_upload_chunks (
+    upload_id VARCHAR(36) NOT NULL,
+    chunk_index INT NOT NULL,
+    received_at DATETIME,
+    PRIMARY KEY (upload_id, chunk_index)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,4 @@
+-- Streaming ZIP export of a competition's current submissions (SubmissionExportService), scanned by id.
+ALTER TABLE team_submissions
+    ADD INDEX idx_team_submissions_competition_current (competition_id, is_current, id),
+    ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,4 @@
+-- Keyset listing and since-polling of a team's discussion posts (TeamDiscussionPostRepository).
+ALTER TABLE team_discussion_posts
+    ADD INDEX idx_team_discussion_posts_team_deleted_created (team_id, deleted_at, created_at, id),
+    ALGORITHM=INPLACE, LOCK=NONE;
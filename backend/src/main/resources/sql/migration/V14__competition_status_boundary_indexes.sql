@@ -0,0 +1,6 @@
+-- Date-boundary status transitions (CompetitionStatusScheduler): next start / end per status.
+-- competitions(status, registration_deadline) is part of the V1 baseline.
+ALTER TABLE competitions
+    ADD INDEX idx_competitions_status_start (status, start_date),
+    ADD INDEX idx_competitions_status_end (status, end_date),
+    ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,8 @@
+-- Database leases for scheduled jobs (SchedulerLeaseManager); fencing_token grows on every takeover.
+CREATE TABLE IF NOT EXISTS scheduler_locks (
+    lock_name VARCHAR(64) PRIMARY KEY,
+    owner_id VARCHAR(128) NOT NULL,
+    fencing_token BIGINT NOT NULL DEFAULT 0,
+    lease_until DATETIME(3) NOT NULL,
+    updated_at DATETIME(3)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
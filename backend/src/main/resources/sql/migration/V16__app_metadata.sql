@@ -0,0 +1,6 @@
+-- Key/value facts about the database itself, e.g. the bootstrap script fingerprint (DatabaseBootstrapInitializer).
+CREATE TABLE IF NOT EXISTS app_metadata (
+    meta_key VARCHAR(64) PRIMARY KEY,
+    meta_value VARCHAR(255) NOT NULL,
+    updated_at DATETIME
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,3 @@
+-- Identifies the chunk write in flight (TeamSubmissionService.writeChunk): a write only marks its chunk received
+-- while its token is still the current one, so a re-sent chunk that started later cannot be marked early.
+ALTER TABLE submission_upload_chunks ADD COLUMN write_token VARCHAR(36);
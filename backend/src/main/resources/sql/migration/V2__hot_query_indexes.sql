@@ -0,0 +1,13 @@
+-- Composite indexes for hot read paths, added online (InnoDB in-place build, reads and writes keep flowing).
+-- competitions(status, registration_deadline), applications(team_id, status) and team_members(team_id, left_at)
+-- are already part of the V1 baseline.
+
+-- UserSkillRepository.findByUserIdAndSkillId / findByUserIdAndSkillIdIn
+ALTER TABLE user_skills
+    ADD INDEX idx_user_skills_user_skill (user_id, skill_id),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+-- UserBehaviorRepository.findByTargetType / findByUserIdAndTargetType (recommendation reads)
+ALTER TABLE user_behaviors
+    ADD INDEX idx_user_behaviors_target_user (target_type, user_id),
+    ALGORITHM=INPLACE, LOCK=NONE;
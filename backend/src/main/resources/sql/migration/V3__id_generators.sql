@@ -0,0 +1,10 @@
+-- Hi/lo style id blocks for the performance profile (META-INF/orm-performance.xml).
+-- next_val is the first id of the next block; it is raised to MAX(id) + 1 on every start of that profile.
+CREATE TABLE IF NOT EXISTS id_generators (
+    gen_name VARCHAR(64) PRIMARY KEY,
+    next_val BIGINT NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+INSERT INTO id_generators (gen_name, next_val) VALUES ('user_behaviors', 1);
+INSERT INTO id_generators (gen_name, next_val) VALUES ('award_recipients', 1);
+INSERT INTO id_generators (gen_name, next_val) VALUES ('team_members', 1);
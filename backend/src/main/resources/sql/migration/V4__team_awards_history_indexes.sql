@@ -0,0 +1,6 @@
+-- Keyset scrolling of the admin award history (TeamAwardRepository.findRecordsFirstPage / findRecordsPageAfter),
+-- newest first, unfiltered or per competition. The per-team filter stays on idx_team_awards_team.
+ALTER TABLE team_awards
+    ADD INDEX idx_team_awards_published (published_at, id),
+    ADD INDEX idx_team_awards_comp_published (competition_id, published_at, id),
+    ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,12 @@
+-- Per-user honors summary read by the profile page (UserHonorService.getMyHonors).
+-- version is bumped and awards_json cleared on every membership/award change; a rebuild only
+-- stores its result if the version it started from is still current.
+CREATE TABLE IF NOT EXISTS user_honor_summaries (
+    user_id BIGINT PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0,
+    participation_count INT NOT NULL DEFAULT 0,
+    award_count INT NOT NULL DEFAULT 0,
+    awards_json TEXT,
+    updated_at DATETIME,
+    CONSTRAINT fk_user_honor_summaries_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,10 @@
+-- Per-user award / participation counters behind the in-memory leaderboards (LeaderboardService).
+-- Rows are refreshed after every membership or award change and loaded into memory at startup;
+-- school totals are derived from them through users.school.
+CREATE TABLE IF NOT EXISTS leaderboard_user_counters (
+    user_id BIGINT PRIMARY KEY,
+    award_count INT NOT NULL DEFAULT 0,
+    participation_count INT NOT NULL DEFAULT 0,
+    updated_at DATETIME,
+    CONSTRAINT fk_leaderboard_user_counters_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,14 @@
+-- Admin teacher-application search: one lower-cased search_text column (teacher real name, username,
+-- competition name) instead of LIKE over three joined columns, plus keyset indexes for the review queue
+-- ordered by applied_at desc, id desc. Online DDL on MySQL 8; see h2/ for the portable variant.
+ALTER TABLE teacher_applications ADD COLUMN search_text VARCHAR(512), ALGORITHM=INSTANT;
+
+UPDATE teacher_applications ta SET search_text = LOWER(CONCAT_WS(' ',
+    (SELECT u.real_name FROM users u WHERE u.id = ta.teacher_id),
+    (SELECT u.username FROM users u WHERE u.id = ta.teacher_id),
+    (SELECT c.name FROM competitions c WHERE c.id = ta.competition_id)));
+
+ALTER TABLE teacher_applications
+    ADD INDEX idx_teacher_applications_applied (applied_at, id),
+    ADD INDEX idx_teacher_applications_status_applied (status, applied_at, id),
+    ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,5 @@
+-- Keyset listing of a team's applications, newest first (ApplicationRepository.findTeacherRows*).
+-- The student listing is served by the (student_id, competition_id, is_active) unique key.
+ALTER TABLE applications
+    ADD INDEX idx_applications_team_applied (team_id, applied_at, id),
+    ALGORITHM=INPLACE, LOCK=NONE;
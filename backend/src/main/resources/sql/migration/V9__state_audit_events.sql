@@ -0,0 +1,19 @@
+-- Append-only log of application and team status transitions (StateAuditService).
+-- Rows are never updated or deleted by the application and carry no foreign keys, so history survives
+-- recycled and deleted applications. Every unique key contains occurred_at, which keeps the table ready for
+-- PARTITION BY RANGE COLUMNS (occurred_at) once it grows large enough to rotate old months out.
+CREATE TABLE IF NOT EXISTS state_audit_events (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    occurred_at DATETIME(3) NOT NULL,
+    entity_type VARCHAR(16) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    team_id BIGINT,
+    action VARCHAR(16) NOT NULL,
+    from_status VARCHAR(16),
+    to_status VARCHAR(16) NOT NULL,
+    actor_id BIGINT,
+    reason VARCHAR(255),
+    PRIMARY KEY (id, occurred_at),
+    KEY idx_state_audit_entity (entity_type, entity_id, occurred_at, id),
+    KEY idx_state_audit_team (team_id, occurred_at, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,12 @@
+-- H2 variant of V10: same columns, index and table, without the MySQL online DDL clauses.
+ALTER TABLE team_submissions ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+ALTER TABLE team_submissions ADD COLUMN IF NOT EXISTS file_size BIGINT;
+CREATE INDEX IF NOT EXISTS idx_team_submissions_content_hash ON team_submissions (content_hash);
+
+CREATE TABLE IF NOT EXISTS submission_blobs (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    size_bytes BIGINT NOT NULL,
+    storage_path VARCHAR(255) NOT NULL,
+    ref_count INT NOT NULL DEFAULT 0,
+    created_at DATETIME
+);
@@ -0,0 +1,2 @@
+-- H2 variant of V12: same index, without the MySQL online DDL clauses.
+CREATE INDEX IF NOT EXISTS idx_team_submissions_competition_current ON team_submissions (competition_id, is_current, id);
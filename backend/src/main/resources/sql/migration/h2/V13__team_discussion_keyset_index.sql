@@ -0,0 +1,3 @@
+-- H2 variant of V13: same index, without the MySQL online DDL clauses.
+CREATE INDEX IF NOT EXISTS idx_team_discussion_posts_team_deleted_created
+    ON team_discussion_posts (team_id, deleted_at, created_at, id);
@@ -0,0 +1,3 @@
+-- H2 variant of V14: same indexes, without the MySQL online DDL clauses.
+CREATE INDEX IF NOT EXISTS idx_competitions_status_start ON competitions (status, start_date);
+CREATE INDEX IF NOT EXISTS idx_competitions_status_end ON competitions (status, end_date);
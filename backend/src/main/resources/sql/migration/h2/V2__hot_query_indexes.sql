@@ -0,0 +1,3 @@
+-- H2 variant of V2: same indexes, without the MySQL online DDL clauses.
+CREATE INDEX IF NOT EXISTS idx_user_skills_user_skill ON user_skills (user_id, skill_id);
+CREATE INDEX IF NOT EXISTS idx_user_behaviors_target_user ON user_behaviors (target_type, user_id);
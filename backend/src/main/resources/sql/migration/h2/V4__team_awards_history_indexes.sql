@@ -0,0 +1,3 @@
+-- H2 variant of V4: same indexes, without the MySQL online DDL clauses.
+CREATE INDEX IF NOT EXISTS idx_team_awards_published ON team_awards (published_at, id);
+CREATE INDEX IF NOT EXISTS idx_team_awards_comp_published ON team_awards (competition_id, published_at, id);
@@ -0,0 +1,10 @@
+-- H2 variant of V7: same column, backfill and indexes, without the MySQL online DDL clauses.
+ALTER TABLE teacher_applications ADD COLUMN IF NOT EXISTS search_text VARCHAR(512);
+
+UPDATE teacher_applications ta SET search_text = LOWER(CONCAT_WS(' ',
+    (SELECT u.real_name FROM users u WHERE u.id = ta.teacher_id),
+    (SELECT u.username FROM users u WHERE u.id = ta.teacher_id),
+    (SELECT c.name FROM competitions c WHERE c.id = ta.competition_id)));
+
+CREATE INDEX IF NOT EXISTS idx_teacher_applications_applied ON teacher_applications (applied_at, id);
+CREATE INDEX IF NOT EXISTS idx_teacher_applications_status_applied ON teacher_applications (status, applied_at, id);
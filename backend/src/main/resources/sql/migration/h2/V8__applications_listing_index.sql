@@ -0,0 +1,2 @@
+-- H2 variant of V8: same index, without the MySQL online DDL clauses.
+CREATE INDEX IF NOT EXISTS idx_applications_team_applied ON applications (team_id, applied_at, id);
@@ -26,7 +26,7 @@ CREATE TABLE IF NOT EXISTS skills (
     name VARCHAR(64) NOT NULL,
     category VARCHAR(64),
     description TEXT,
-    is_active BIT(1) DEFAULT b'1',
+    is_active BIT(1) DEFAULT 1,
     created_at DATETIME,
     updated_at DATETIME,
     UNIQUE KEY uk_skills_name (name)
@@ -128,7 +128,7 @@ CREATE TABLE IF NOT EXISTS applications (
     team_id BIGINT NOT NULL,
     student_id BIGINT NOT NULL,
     status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
-    is_active BIT(1) NOT NULL DEFAULT b'1',
+    is_active BIT(1) NOT NULL DEFAULT 1,
     applied_at DATETIME,
     reviewed_at DATETIME,
     reviewed_by BIGINT,
@@ -179,7 +179,7 @@ CREATE TABLE IF NOT EXISTS team_submissions (
     file_url VARCHAR(512) NOT NULL,
     remark VARCHAR(255),
     submitted_at DATETIME,
-    is_current BIT(1) DEFAULT b'1',
+    is_current BIT(1) DEFAULT 1,
     CONSTRAINT fk_team_submissions_team FOREIGN KEY (team_id) REFERENCES teams (id),
     CONSTRAINT fk_team_submissions_competition FOREIGN KEY (competition_id) REFERENCES competitions (id),
     CONSTRAINT fk_team_submissions_submitter FOREIGN KEY (submitted_by) REFERENCES users (id)
@@ -0,0 +1,105 @@
+package com.competition.config;
+
+import com.competition.utils.JwtUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the budgeted listing and recommendation endpoints under the ci profile, where a request that goes over
+ * its app.query-guard budget fails with 500 QUERY_BUDGET_EXCEEDED. An N+1 regression in any of them fails here.
+ * The fixture has 30 teams and 90 applications, so one extra query per row cannot hide inside a budget.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:query_budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+                + "CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1",
+        "app.upload-dir=target/test-uploads",
+        // Control case: proves the guard is active in this context.
+        "app.query-guard.budgets[GET\\ /api/skills]=0"
+})
+@ActiveProfiles({"h2", "ci"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetGuardTest {
+
+    private static final long ADMIN = 1;
+    private static final long TEACHER = 2;
+    private static final long STUDENT = 7;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeAll
+    void loadFixture() {
+        new ResourceDatabasePopulator(new ClassPathResource("sql/query-budget-fixture.sql")).execute(dataSource);
+    }
+
+    @ParameterizedTest(name = "{1} as user {0}")
+    @CsvSource({
+            "7, /api/competitions?recommend=true",
+            "7, /api/competitions?size=20",
+            "7, /api/competitions/6/teams/recommend",
+            "7, /api/teams?size=30",
+            "7, /api/teams/search?keyword=Budget",
+            "2, /api/teams/mine",
+            "7, /api/users/me/applications",
+            "7, /api/users/me/applications/page",
+            "2, /api/teacher/applications",
+            "2, /api/teacher/applications/page",
+            "1, /api/admin/teacher-applications?size=50",
+            "1, /api/admin/teacher-applications/page?size=50",
+            "1, /api/admin/awards/records",
+            "1, /api/admin/awards/records/page",
+            "7, /api/leaderboards/users"
+    })
+    void staysWithinBudget(long userId, String uri) {
+        ResponseEntity<String> response = get(userId, uri);
+
+        assertThat(response.getStatusCode())
+                .as("%s: %s", uri, response.getBody())
+                .isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void requestOverBudgetFails() {
+        ResponseEntity<String> response = get(STUDENT, "/api/skills");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(response.getBody()).contains("QUERY_BUDGET_EXCEEDED");
+    }
+
+    private ResponseEntity<String> get(long userId, String uri) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtUtils.generateToken(userId, username(userId)));
+        return restTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    private static String username(long userId) {
+        if (userId == ADMIN) {
+            return "qb_admin";
+        }
+        return (userId < STUDENT ? "qb_teacher_" : "qb_student_") + userId;
+    }
+}
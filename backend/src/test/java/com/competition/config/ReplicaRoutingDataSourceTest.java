@@ -0,0 +1,109 @@
+package com.competition.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing against two in-memory H2 databases, each holding a row that names it, wired the way
+ * ReadReplicaDataSourceConfig does: routing data source behind a LazyConnectionDataSourceProxy.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String WHO_AM_I = "SELECT name FROM instance";
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        primary = instance("routing_primary", "primary");
+        replica = instance("routing_replica", "replica");
+        lagMonitor = new ReplicaLagMonitor(replica, 5);
+        lagMonitor.start(60_000);
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lagMonitor.stop();
+        new JdbcTemplate(primary).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replica).execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        assertThat(lagMonitor.isReplicaUsable()).isTrue();
+        assertThat(inReadOnly()).isEqualTo("replica");
+    }
+
+    @Test
+    void writesAndReadWriteTransactionsGoToThePrimary() {
+        assertThat(inReadWrite()).isEqualTo("primary");
+        assertThat(whoAmI()).isEqualTo("primary");
+
+        jdbcTemplate.update("INSERT INTO instance (name) VALUES ('written')");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO instance (name) VALUES ('written')"));
+
+        assertThat(count(primary)).isEqualTo(3);
+        assertThat(count(replica)).isEqualTo(1);
+    }
+
+    @Test
+    void readsFallBackToThePrimaryWhileTheReplicaLags() {
+        lagMonitor.record(30d);
+        assertThat(inReadOnly()).isEqualTo("primary");
+
+        lagMonitor.record(null);
+        assertThat(inReadOnly()).isEqualTo("primary");
+
+        lagMonitor.record(1d);
+        assertThat(inReadOnly()).isEqualTo("replica");
+    }
+
+    private String inReadOnly() {
+        return readOnly.execute(status -> whoAmI());
+    }
+
+    private String inReadWrite() {
+        return readWrite.execute(status -> whoAmI());
+    }
+
+    private String whoAmI() {
+        return jdbcTemplate.queryForObject(WHO_AM_I + " ORDER BY id LIMIT 1", String.class);
+    }
+
+    private static Integer count(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM instance", Integer.class);
+    }
+
+    private static DriverManagerDataSource instance(String database, String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + database + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE instance (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO instance (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,101 @@
+package com.competition.config;
+
+import com.competition.utils.JwtUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Full JPA stack with routing enabled and open-session-in-view on. The replica is a second in-memory H2 database
+ * holding a copy of the primary, so a write that leaks onto the replica connection shows up there instead of on
+ * the primary. PUT /api/teams/{id}/disband first reads the caller in a read-only transaction (replica), then
+ * disbands the team in a read-write transaction within the same request.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_request_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+                + "CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.url=jdbc:h2:mem:routing_request_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+                + "CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1",
+        "app.upload-dir=target/test-uploads"
+})
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReplicaRoutingRequestTest {
+
+    private static final long ADMIN = 1;
+    private static final long TEAM = 1;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primary;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replica;
+
+    @BeforeAll
+    void copyPrimaryToReplica() {
+        JdbcTemplate primaryJdbc = new JdbcTemplate(primary);
+        primaryJdbc.update("INSERT INTO users (id, account_no, role, password, real_name, username, school, "
+                + "created_at, updated_at) VALUES (?, 'rr_admin', 'ADMIN', 'x', 'Admin', 'rr_admin', 'School A', "
+                + "NOW(), NOW())", ADMIN);
+        primaryJdbc.update("INSERT INTO teams (id, competition_id, leader_id, name, description, status, "
+                + "created_at, updated_at) VALUES (?, 1, ?, 'Routing Team', 'fixture', 'RECRUITING', NOW(), NOW())",
+                TEAM, ADMIN);
+        String script = Path.of("target", "routing-request-primary.sql").toAbsolutePath().toString();
+        primaryJdbc.execute("SCRIPT TO '" + script + "'");
+        new JdbcTemplate(replica).execute("RUNSCRIPT FROM '" + script + "'");
+    }
+
+    @Test
+    void writeAfterReadOnlyLookupInTheSameRequestGoesToThePrimary() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtUtils.generateToken(ADMIN, "rr_admin"));
+        double replicaReads = replicaReads();
+
+        ResponseEntity<String> response = restTemplate.exchange("/api/teams/" + TEAM + "/disband",
+                HttpMethod.PUT, new HttpEntity<>(headers), String.class);
+
+        assertThat(response.getStatusCode()).as("%s", response.getBody()).isEqualTo(HttpStatus.OK);
+        assertThat(teamStatus(primary)).isEqualTo("DISBANDED");
+        assertThat(teamStatus(replica)).isEqualTo("RECRUITING");
+        assertThat(replicaReads()).as("the admin lookup used the replica").isGreaterThan(replicaReads);
+    }
+
+    private double replicaReads() {
+        return meterRegistry.get("app.datasource.routing")
+                .tag("target", ReplicaRoutingDataSource.REPLICA)
+                .functionCounter()
+                .count();
+    }
+
+    private static String teamStatus(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT status FROM teams WHERE id = ?", String.class, TEAM);
+    }
+}
@@ -0,0 +1,105 @@
+package com.competition.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Two lease managers with different node ids against one embedded H2 database, standing in for two backend nodes.
+ */
+class SchedulerLeaseManagerTest {
+
+    private static final String LOCK_NAME = "test-job";
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private SchedulerLeaseManager nodeA;
+    private SchedulerLeaseManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:scheduler_lease;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("sql/migration/V15__scheduler_locks.sql"))
+                .execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        nodeA = new SchedulerLeaseManager(jdbcTemplate, transactionManager, "node-a", 30);
+        nodeB = new SchedulerLeaseManager(jdbcTemplate, transactionManager, "node-b", 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.shutdown();
+        nodeB.shutdown();
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void onlyOneNodeHoldsTheLease() {
+        AtomicBoolean bRan = new AtomicBoolean();
+
+        boolean aRan = nodeA.runWithLease(LOCK_NAME, lease ->
+                bRan.set(nodeB.runWithLease(LOCK_NAME, () -> { })));
+
+        assertThat(aRan).isTrue();
+        assertThat(bRan).isFalse();
+        // Released when the job finished, so the other node can take it right away.
+        assertThat(nodeB.runWithLease(LOCK_NAME, () -> { })).isTrue();
+    }
+
+    @Test
+    void takeoverIncrementsTokenAndFencesOutTheStaleHolder() {
+        AtomicLong tokenA = new AtomicLong();
+        AtomicLong tokenB = new AtomicLong();
+        AtomicBoolean staleWriteRan = new AtomicBoolean();
+
+        nodeA.runWithLease(LOCK_NAME, leaseA -> {
+            tokenA.set(leaseA.getFencingToken());
+            leaseA.fenced(() -> jdbcTemplate.update("UPDATE scheduler_locks SET updated_at = NOW(3)"));
+
+            // Node A stalls past its lease; node B takes over.
+            expireLease();
+            assertThat(nodeB.runWithLease(LOCK_NAME, leaseB -> tokenB.set(leaseB.getFencingToken()))).isTrue();
+
+            assertThatThrownBy(() -> leaseA.fenced(() -> staleWriteRan.set(true)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("scheduler lease lost");
+        });
+
+        assertThat(tokenB.get()).isEqualTo(tokenA.get() + 1);
+        assertThat(staleWriteRan).isFalse();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT owner_id FROM scheduler_locks WHERE lock_name = ?", String.class, LOCK_NAME))
+                .isEqualTo("node-b");
+    }
+
+    @Test
+    void expiredLeaseIsRejectedEvenWithoutTakeover() {
+        AtomicBoolean writeRan = new AtomicBoolean();
+
+        nodeA.runWithLease(LOCK_NAME, lease -> {
+            expireLease();
+            assertThatThrownBy(() -> lease.fenced(() -> writeRan.set(true)))
+                    .isInstanceOf(IllegalStateException.class);
+        });
+
+        assertThat(writeRan).isFalse();
+    }
+
+    private void expireLease() {
+        jdbcTemplate.update("UPDATE scheduler_locks SET lease_until = TIMESTAMPADD(SECOND, -1, NOW(3)) " +
+                "WHERE lock_name = ?", LOCK_NAME);
+    }
+}
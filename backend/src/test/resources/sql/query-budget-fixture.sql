@@ -0,0 +1,60 @@
+-- Fixture for QueryBudgetGuardTest (H2 only: uses SYSTEM_RANGE). Loaded once into a fresh database on top of
+-- schema_v3.sql + init.sql (5 competitions, skills). Sized so that a per-row query in any budgeted listing
+-- pushes the request over its budget.
+-- Users: 1 admin, 2-6 teachers, 7-66 students.
+INSERT INTO users (id, account_no, role, password, real_name, username, school, created_at, updated_at)
+VALUES (1, 'qb_admin', 'ADMIN', 'x', 'Admin', 'qb_admin', 'School A', NOW(), NOW());
+INSERT INTO users (id, account_no, role, password, real_name, username, school, created_at, updated_at)
+SELECT X, 'qb_teacher_' || X, 'TEACHER', 'x', 'Teacher ' || X, 'qb_teacher_' || X, 'School A', NOW(), NOW()
+FROM SYSTEM_RANGE(2, 6);
+INSERT INTO users (id, account_no, role, password, real_name, username, school, created_at, updated_at)
+SELECT X, 'qb_student_' || X, 'STUDENT', 'x', 'Student ' || X, 'qb_student_' || X,
+       CASE WHEN MOD(X, 2) = 0 THEN 'School A' ELSE 'School B' END, NOW(), NOW()
+FROM SYSTEM_RANGE(7, 66);
+
+-- Competitions 6-20, open for registration, on top of the five from init.sql.
+INSERT INTO competitions (id, name, description, organizer, category, level, start_date, end_date,
+                          registration_deadline, max_team_size, status, created_by, created_at, updated_at)
+SELECT X, 'Budget Competition ' || X, 'fixture', 'Org', 'Programming', 'National',
+       DATEADD(DAY, 60, CURRENT_DATE), DATEADD(DAY, 90, CURRENT_DATE), DATEADD(DAY, 30, CURRENT_DATE),
+       5, 'UPCOMING', 1, DATEADD(MINUTE, X, NOW()), NOW()
+FROM SYSTEM_RANGE(6, 20);
+
+INSERT INTO competition_skills (competition_id, skill_id, importance)
+SELECT c.X, MOD(c.X + k.X, 10) + 1, k.X + 1 FROM SYSTEM_RANGE(1, 20) c, SYSTEM_RANGE(0, 2) k;
+
+INSERT INTO user_skills (user_id, skill_id, level, created_at)
+SELECT u.X, MOD(u.X + k.X, 10) + 1, 3, NOW() FROM SYSTEM_RANGE(7, 66) u, SYSTEM_RANGE(0, 2) k;
+
+INSERT INTO user_behaviors (user_id, behavior_type, target_type, target_id, weight, created_at)
+SELECT u.X, 'VIEW', 'COMPETITION', MOD(u.X + k.X, 20) + 1, 1, NOW() FROM SYSTEM_RANGE(7, 66) u, SYSTEM_RANGE(0, 4) k;
+
+-- Teams 1-30 in competitions 6-20; teacher 2 leads 1-15, teacher 3 leads 16-30.
+INSERT INTO teams (id, competition_id, leader_id, name, description, status, created_at, updated_at)
+SELECT X, MOD(X - 1, 15) + 6, 2 + (X - 1) / 15, 'Budget Team ' || X, 'fixture', 'RECRUITING',
+       DATEADD(MINUTE, X, NOW()), NOW()
+FROM SYSTEM_RANGE(1, 30);
+
+INSERT INTO team_skills (team_id, skill_id, weight)
+SELECT t.X, MOD(t.X + k.X, 10) + 1, 1 FROM SYSTEM_RANGE(1, 30) t, SYSTEM_RANGE(0, 1) k;
+
+INSERT INTO team_members (team_id, user_id, role, joined_at)
+SELECT X, 2 + (X - 1) / 15, 'LEADER', NOW() FROM SYSTEM_RANGE(1, 30);
+INSERT INTO team_members (team_id, user_id, role, joined_at)
+SELECT t.X, 7 + MOD(t.X * 3 + k.X, 60), 'MEMBER', NOW() FROM SYSTEM_RANGE(1, 30) t, SYSTEM_RANGE(0, 1) k;
+
+-- Three applications per team: the two members (approved) and one pending applicant.
+INSERT INTO applications (competition_id, team_id, student_id, status, is_active, applied_at, reviewed_at, reviewed_by)
+SELECT MOD(t.X - 1, 15) + 6, t.X, 7 + MOD(t.X * 3 + k.X, 60),
+       CASE WHEN k.X < 2 THEN 'APPROVED' ELSE 'PENDING' END, 1,
+       DATEADD(MINUTE, -k.X, NOW()), CASE WHEN k.X < 2 THEN NOW() END, CASE WHEN k.X < 2 THEN 2 + (t.X - 1) / 15 END
+FROM SYSTEM_RANGE(1, 30) t, SYSTEM_RANGE(0, 2) k;
+
+INSERT INTO teacher_applications (competition_id, teacher_id, status, applied_at, search_text)
+SELECT c.X, t.X, 'PENDING', DATEADD(MINUTE, c.X, NOW()), 'teacher ' || t.X || ' qb_teacher_' || t.X
+FROM SYSTEM_RANGE(6, 20) c, SYSTEM_RANGE(4, 6) t;
+
+INSERT INTO team_awards (id, competition_id, team_id, award_name, published_by, published_at, is_active)
+SELECT X, MOD(X - 1, 15) + 6, X, 'First Prize', 1, DATEADD(MINUTE, X, NOW()), 1 FROM SYSTEM_RANGE(1, 30);
+INSERT INTO award_recipients (team_award_id, user_id, recorded_at)
+SELECT t.X, 7 + MOD(t.X * 3 + k.X, 60), NOW() FROM SYSTEM_RANGE(1, 30) t, SYSTEM_RANGE(0, 1) k;
@@ -1,4 +1,5 @@
 import { client } from "@/api/client"
+import { getApiBaseUrl } from "@/utils/env"
 
 export type TeamDiscussionPost = {
   id?: number
@@ -16,6 +17,27 @@ export type TeamDiscussionPostCreatePayload = {
   parentPostId?: number | null
 }
 
+export type TeamPostPage = {
+  items: TeamDiscussionPost[]
+  nextCursor: string | null
+  hasMore: boolean
+}
+
+export type TeamDiscussionFeedEvent = {
+  type: "CREATED" | "DELETED"
+  teamId: number
+  postId: number
+  parentPostId?: number | null
+  post?: TeamDiscussionPost | null
+}
+
+export type TeamPostStreamHandlers = {
+  onEvent: (event: TeamDiscussionFeedEvent) => void
+  onStopped?: (error: Error) => void
+}
+
+const STREAM_RETRY_MS = 3000
+
 const unwrapData = <T>(payload: any): T => {
   return (payload?.data ?? payload) as T
 }
@@ -42,6 +64,41 @@ export async function listTeamPosts(teamId: number): Promise<TeamDiscussionPost[
   }
 }
 
+/**
+ * Oldest-first page after `since`. For head polls pass `overlap`: the server then also re-sends the last
+ * few seconds before the cursor (a post can commit after a newer one was read), so merge the items with
+ * mergePostsById. Forward paging leaves it off and gets only new posts.
+ */
+export async function listTeamPostsPage(
+  teamId: number,
+  since?: string | null,
+  size?: number,
+  overlap = false
+): Promise<TeamPostPage> {
+  try {
+    const response = await client.get(`/teams/${teamId}/posts/page`, {
+      params: { since: since ?? undefined, size, overlap: overlap || undefined }
+    })
+    const page = unwrapData<TeamPostPage>(response?.data)
+    return { items: page?.items ?? [], nextCursor: page?.nextCursor ?? null, hasMore: Boolean(page?.hasMore) }
+  } catch (error: any) {
+    throw toError(error, "Failed to load team posts")
+  }
+}
+
+/**
+ * Add posts not yet in `current` (by id), keeping creation order.
+ */
+export function mergePostsById(current: TeamDiscussionPost[], incoming: TeamDiscussionPost[]): TeamDiscussionPost[] {
+  const known = new Set(current.map((post) => post.id))
+  const added = incoming.filter((post) => post.id != null && !known.has(post.id) && known.add(post.id))
+  if (!added.length) return current
+  return [...current, ...added].sort((a, b) => {
+    const byTime = String(a.createdAt ?? "").localeCompare(String(b.createdAt ?? ""))
+    return byTime !== 0 ? byTime : (a.id ?? 0) - (b.id ?? 0)
+  })
+}
+
 export async function createTeamPost(teamId: number, payload: TeamDiscussionPostCreatePayload): Promise<TeamDiscussionPost> {
   try {
     const response = await client.post(`/teams/${teamId}/posts`, payload)
@@ -67,3 +124,60 @@ export async function deleteTeamPost(teamId: number, postId: number): Promise<vo
     throw toError(error, "Failed to delete post")
   }
 }
+
+export async function createTeamPostStreamToken(teamId: number): Promise<string> {
+  try {
+    const response = await client.post(`/teams/${teamId}/posts/stream-token`)
+    return unwrapData<{ token: string }>(response?.data).token
+  } catch (error: any) {
+    throw toError(error, "Failed to open post stream")
+  }
+}
+
+/**
+ * Open the team's live post feed. EventSource cannot send the Authorization header, so each connect
+ * fetches a short-lived stream token and passes it in the query string. The server closes the feed when
+ * the user loses access; the reconnect then fails to get a token and onStopped is called.
+ * Returns a function that closes the feed.
+ */
+export function openTeamPostStream(teamId: number, handlers: TeamPostStreamHandlers): () => void {
+  let source: EventSource | null = null
+  let retryTimer: ReturnType<typeof setTimeout> | undefined
+  let closed = false
+
+  const onMessage = (message: MessageEvent) => {
+    try {
+      handlers.onEvent(JSON.parse(message.data) as TeamDiscussionFeedEvent)
+    } catch {
+      // Ignore malformed events; the next reload picks up the state.
+    }
+  }
+
+  const connect = async () => {
+    let token: string
+    try {
+      token = await createTeamPostStreamToken(teamId)
+    } catch (error: any) {
+      if (!closed) handlers.onStopped?.(error)
+      return
+    }
+    if (closed) return
+    source = new EventSource(`${getApiBaseUrl()}/teams/${teamId}/posts/stream?token=${encodeURIComponent(token)}`)
+    source.addEventListener("created", onMessage as EventListener)
+    source.addEventListener("deleted", onMessage as EventListener)
+    source.onerror = () => {
+      // The browser would retry with the same, soon expired token; reconnect with a fresh one instead.
+      source?.close()
+      source = null
+      if (!closed) retryTimer = setTimeout(connect, STREAM_RETRY_MS)
+    }
+  }
+
+  connect()
+  return () => {
+    closed = true
+    clearTimeout(retryTimer)
+    source?.close()
+    source = null
+  }
+}
@@ -38,13 +38,72 @@ const toError = (error: any, fallback: string) => {
   return err
 }
 
+type AdmissionTicket = {
+  ticketId?: string
+  state?: "QUEUED" | "PROCESSING" | "ADMITTED" | "REJECTED"
+  position?: number
+  application?: ApplicationItem
+  errorStatus?: number
+  error?: string
+}
+
+const ADMISSION_POLL_MS = 1000
+// Give up polling after this many polls or this long, whichever comes first.
+const ADMISSION_MAX_POLLS = 120
+const ADMISSION_MAX_WAIT_MS = 3 * 60 * 1000
+
+const wait = (ms: number) => new Promise((resolve) => setTimeout(resolve, ms))
+
+const admissionError = (status: number | undefined, message: string) => {
+  const err = new Error(message)
+  ;(err as any).status = status
+  ;(err as any).rawMessage = message
+  ;(err as any).isAdmissionError = true
+  return err
+}
+
+// Tickets live in one node's memory; when one is gone or polling runs out, the applications list is the truth.
+const findActiveApplication = async (payload: { competitionId: number; teamId: number }) => {
+  const response = await client.get("/users/me/applications", { params: { competitionId: payload.competitionId } })
+  const items = unwrapData<ApplicationItem[]>(response?.data) ?? []
+  return items.find((item) => item.isActive && item.teamId === payload.teamId) ?? null
+}
+
+// Goes through the admission queue; resolves once the ticket is admitted, rejects with the server's status/message.
 export async function createApplication(payload: { competitionId: number; teamId: number }): Promise<ApplicationItem> {
+  let ticket: AdmissionTicket
   try {
-    const response = await client.post("/applications", payload)
-    return unwrapData<ApplicationItem>(response?.data)
+    const response = await client.post("/applications/admission", payload)
+    ticket = unwrapData<AdmissionTicket>(response?.data)
+    const startedAt = Date.now()
+    let polls = 0
+    while (ticket?.state === "QUEUED" || ticket?.state === "PROCESSING") {
+      if (polls >= ADMISSION_MAX_POLLS || Date.now() - startedAt >= ADMISSION_MAX_WAIT_MS) {
+        const applied = await findActiveApplication(payload)
+        if (applied) return applied
+        throw admissionError(undefined, "Application is still queued, check your applications later")
+      }
+      await wait(ADMISSION_POLL_MS)
+      polls += 1
+      try {
+        const polled = await client.get(`/applications/admission/${ticket.ticketId}`)
+        ticket = unwrapData<AdmissionTicket>(polled?.data)
+      } catch (error: any) {
+        if (error?.response?.status !== 404) throw error
+        // Issuing node restarted or the poll reached another node.
+        const applied = await findActiveApplication(payload)
+        if (applied) return applied
+        throw admissionError(404, "Application was not recorded, please submit again")
+      }
+    }
   } catch (error: any) {
+    if (error?.isAdmissionError) throw error
     throw toError(error, "Request failed")
   }
+  if (ticket?.state !== "ADMITTED") {
+    throw admissionError(ticket?.errorStatus, ticket?.error ?? "Request failed")
+  }
+  return ticket.application ?? {}
 }
 
 export async function listMyApplications(): Promise<ApplicationItem[]> {